@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy.benchmarks;
+
+import static com.leakyabstractions.result.core.Results.failure;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.lazy.LazyResults;
+
+/**
+ * Measures single operations on a lazy result that has already been evaluated, compared to the same operations on
+ * the eager result it wraps.
+ * <p>
+ * Operations on failed results return the same result, so the eager benchmarks don't allocate anything. Run with
+ * {@code -prof gc} and compare {@code gc.alloc.rate.norm}: the lazy benchmarks should not allocate anything either.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EvaluatedResultBenchmark {
+
+    private static final Function<Integer, Integer> INCREMENT = x -> x + 1;
+    private static final Predicate<Integer> IS_ACCEPTABLE = x -> x >= 0;
+    private static final Function<Integer, String> TO_FAILURE = String::valueOf;
+
+    private Result<Integer, String> eager;
+    private Result<Integer, String> lazy;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.eager = failure("FAILURE");
+        this.lazy = LazyResults.ofSupplier(() -> this.eager);
+        this.lazy.hasFailure();
+    }
+
+    /** Maps the success value of an evaluated lazy result. */
+    @Benchmark
+    public Result<Integer, String> lazyMapSuccess() {
+        return this.lazy.mapSuccess(INCREMENT);
+    }
+
+    /** Maps the success value of an eager result. */
+    @Benchmark
+    public Result<Integer, String> eagerMapSuccess() {
+        return this.eager.mapSuccess(INCREMENT);
+    }
+
+    /** Filters the success value of an evaluated lazy result. */
+    @Benchmark
+    public Result<Integer, String> lazyFilter() {
+        return this.lazy.filter(IS_ACCEPTABLE, TO_FAILURE);
+    }
+
+    /** Filters the success value of an eager result. */
+    @Benchmark
+    public Result<Integer, String> eagerFilter() {
+        return this.eager.filter(IS_ACCEPTABLE, TO_FAILURE);
+    }
+}
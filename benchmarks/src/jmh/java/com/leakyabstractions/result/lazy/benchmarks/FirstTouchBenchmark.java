@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy.benchmarks;
+
+import static com.leakyabstractions.result.core.Results.success;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.lazy.LazyResults;
+
+/**
+ * Measures contention when several threads touch the same unevaluated lazy results for the first time.
+ * <p>
+ * Every thread walks the same array of fresh lazy results in the same order, so that threads race to evaluate each of
+ * them. The array is rebuilt before each iteration, which is a single invocation.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 50)
+@Fork(2)
+public class FirstTouchBenchmark {
+
+    @Param({"4096"})
+    int size;
+
+    @Param({"0", "100"})
+    int supplierTokens;
+
+    private Result<Integer, String>[] results;
+
+    @Setup(Level.Iteration)
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public void setUp() {
+        final int tokens = this.supplierTokens;
+        this.results = new Result[this.size];
+        for (int i = 0; i < this.size; i++) {
+            final int value = i;
+            this.results[i] = LazyResults.ofSupplier(
+                    () -> {
+                        Blackhole.consumeCPU(tokens);
+                        return success(value);
+                    });
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void threads1(Blackhole blackhole) {
+        this.touch(blackhole);
+    }
+
+    @Benchmark
+    @Threads(2)
+    public void threads2(Blackhole blackhole) {
+        this.touch(blackhole);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void threads4(Blackhole blackhole) {
+        this.touch(blackhole);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void threadsMax(Blackhole blackhole) {
+        this.touch(blackhole);
+    }
+
+    /** Reads an already-evaluated lazy result from all available threads. */
+    @Benchmark
+    @Threads(Threads.MAX)
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 5, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public boolean alreadyEvaluated(Evaluated state) {
+        return state.result.hasSuccess();
+    }
+
+    private void touch(Blackhole blackhole) {
+        for (Result<Integer, String> result : this.results) {
+            blackhole.consume(result.hasSuccess());
+        }
+    }
+
+    /** Holds a lazy result that is evaluated before the benchmark starts. */
+    @State(Scope.Benchmark)
+    public static class Evaluated {
+
+        Result<Integer, String> result;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            this.result = LazyResults.ofSupplier(() -> success(0));
+            this.result.hasSuccess();
+        }
+    }
+}
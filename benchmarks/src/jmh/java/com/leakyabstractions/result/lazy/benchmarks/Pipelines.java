@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy.benchmarks;
+
+import static com.leakyabstractions.result.core.Results.success;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Builds the chains of deferred operations measured by the benchmarks.
+ * <p>
+ * All functions are non-capturing constants, so that benchmarks measure the overhead of the result implementation
+ * rather than the cost of the lambdas passed to it.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+final class Pipelines {
+
+    private static final Function<Integer, Integer> INCREMENT = x -> x + 1;
+    private static final Function<Integer, Result<Integer, String>> FLAT_INCREMENT = x -> success(x + 1);
+    private static final Predicate<Integer> IS_ACCEPTABLE = x -> x >= 0;
+    private static final Function<Integer, String> TO_FAILURE = String::valueOf;
+    private static final Predicate<String> IS_RECOVERABLE = f -> true;
+    private static final Function<String, Integer> TO_SUCCESS = String::length;
+
+    private Pipelines() {
+        /** Suppresses default constructor, ensuring non-instantiability */
+    }
+
+    /**
+     * Applies {@code depth} operations to the given result.
+     *
+     * @param result the result to transform
+     * @param operation the name of the operation to chain ({@code map}, {@code flatMap}, {@code filter},
+     *     {@code recover}) or {@code mixed} to cycle through all of them
+     * @param depth how many operations to chain
+     * @return the transformed result
+     */
+    static Result<Integer, String> chain(Result<Integer, String> result, String operation, int depth) {
+        for (int i = 0; i < depth; i++) {
+            result = apply(result, "mixed".equals(operation) ? i % 4 : index(operation));
+        }
+        return result;
+    }
+
+    private static Result<Integer, String> apply(Result<Integer, String> result, int operation) {
+        switch (operation) {
+            case 0:
+                return result.mapSuccess(INCREMENT);
+            case 1:
+                return result.flatMapSuccess(FLAT_INCREMENT);
+            case 2:
+                return result.filter(IS_ACCEPTABLE, TO_FAILURE);
+            default:
+                return result.recover(IS_RECOVERABLE, TO_SUCCESS);
+        }
+    }
+
+    private static int index(String operation) {
+        switch (operation) {
+            case "map":
+                return 0;
+            case "flatMap":
+                return 1;
+            case "filter":
+                return 2;
+            case "recover":
+                return 3;
+            default:
+                throw new IllegalArgumentException("Unknown operation: " + operation);
+        }
+    }
+}
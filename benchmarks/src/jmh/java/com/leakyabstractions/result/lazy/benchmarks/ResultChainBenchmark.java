@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy.benchmarks;
+
+import static com.leakyabstractions.result.core.Results.success;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.lazy.LazyResults;
+
+/**
+ * Measures construction and evaluation of chains of operations on lazy results, compared to the same pipelines on
+ * eager results.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ResultChainBenchmark {
+
+    private static final Supplier<Result<Integer, String>> SUPPLIER = () -> success(0);
+
+    @Param({"1", "10", "100", "1000", "10000"})
+    int depth;
+
+    @Param({"map", "flatMap", "filter", "recover", "mixed"})
+    String operation;
+
+    private Result<Integer, String> evaluated;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.evaluated = LazyResults.ofSupplier(SUPPLIER);
+        this.evaluated.hasSuccess();
+    }
+
+    /** Builds a chain of deferred operations without evaluating it. */
+    @Benchmark
+    public Result<Integer, String> lazyConstruct() {
+        return Pipelines.chain(LazyResults.ofSupplier(SUPPLIER), this.operation, this.depth);
+    }
+
+    /** Builds a chain of deferred operations and evaluates it. */
+    @Benchmark
+    public Integer lazyConstructAndEvaluate() {
+        return Pipelines.chain(LazyResults.ofSupplier(SUPPLIER), this.operation, this.depth).orElse(null);
+    }
+
+    /** Applies a chain of operations to a lazy result that has already been evaluated. */
+    @Benchmark
+    public Integer lazyAlreadyEvaluated() {
+        return Pipelines.chain(this.evaluated, this.operation, this.depth).orElse(null);
+    }
+
+    /** Applies the same chain of operations to an eager result. */
+    @Benchmark
+    public Integer eager() {
+        return Pipelines.chain(SUPPLIER.get(), this.operation, this.depth).orElse(null);
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Base class of the lazy results that are backed by a result that can be replaced over time.
+ * <p>
+ * Queries are delegated to the {@link #current() current} result. Operations are not applied to the current result
+ * right away; instead, they return an {@link ExpiringView} that applies them to whatever result is current when the
+ * derived result is needed. This way, derived results are refreshed along with the result they derive from.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <S> the type of the success value
+ * @param <F> the type of the failure value
+ */
+abstract class AbstractExpiringResult<S, F> implements Result<S, F> {
+
+    /**
+     * Returns the result that queries and operations must be applied to at this moment.
+     *
+     * @return the current result
+     */
+    abstract Result<S, F> current();
+
+    @Override
+    public Optional<S> getSuccess() {
+        return this.current().getSuccess();
+    }
+
+    @Override
+    public Optional<F> getFailure() {
+        return this.current().getFailure();
+    }
+
+    @Override
+    public boolean hasSuccess() {
+        return this.current().hasSuccess();
+    }
+
+    @Override
+    public boolean hasFailure() {
+        return this.current().hasFailure();
+    }
+
+    @Override
+    public S orElse(S other) {
+        return this.current().orElse(other);
+    }
+
+    @Override
+    public S orElseMap(Function<? super F, ? extends S> mapper) {
+        return this.current().orElseMap(mapper);
+    }
+
+    @Override
+    public Stream<S> streamSuccess() {
+        return this.current().streamSuccess();
+    }
+
+    @Override
+    public Stream<F> streamFailure() {
+        return this.current().streamFailure();
+    }
+
+    @Override
+    public Result<S, F> ifSuccess(Consumer<? super S> action) {
+        return new ExpiringView<>(this, r -> r.ifSuccess(action));
+    }
+
+    @Override
+    public Result<S, F> ifSuccessOrElse(Consumer<? super S> successAction, Consumer<? super F> failureAction) {
+        return new ExpiringView<>(this, r -> r.ifSuccessOrElse(successAction, failureAction));
+    }
+
+    @Override
+    public Result<S, F> ifFailure(Consumer<? super F> action) {
+        return new ExpiringView<>(this, r -> r.ifFailure(action));
+    }
+
+    @Override
+    public Result<S, F> filter(Predicate<? super S> isAcceptable, Function<? super S, ? extends F> mapper) {
+        return new ExpiringView<>(this, r -> r.filter(isAcceptable, mapper));
+    }
+
+    @Override
+    public Result<S, F> recover(Predicate<? super F> isRecoverable, Function<? super F, ? extends S> mapper) {
+        return new ExpiringView<>(this, r -> r.recover(isRecoverable, mapper));
+    }
+
+    @Override
+    public <S2, F2> Result<S2, F2> map(
+            Function<? super S, ? extends S2> successMapper, Function<? super F, ? extends F2> failureMapper) {
+        return new ExpiringView<>(this, r -> r.map(successMapper, failureMapper));
+    }
+
+    @Override
+    public <S2> Result<S2, F> mapSuccess(Function<? super S, ? extends S2> mapper) {
+        return new ExpiringView<>(this, r -> r.mapSuccess(mapper));
+    }
+
+    @Override
+    public <F2> Result<S, F2> mapFailure(Function<? super F, ? extends F2> mapper) {
+        return new ExpiringView<>(this, r -> r.mapFailure(mapper));
+    }
+
+    @Override
+    public <S2, F2> Result<S2, F2> flatMap(
+            Function<? super S, ? extends Result<? extends S2, ? extends F2>> successMapper,
+            Function<? super F, ? extends Result<? extends S2, ? extends F2>> failureMapper) {
+        return new ExpiringView<>(this, r -> r.flatMap(successMapper, failureMapper));
+    }
+
+    @Override
+    public <S2> Result<S2, F> flatMapSuccess(
+            Function<? super S, ? extends Result<? extends S2, ? extends F>> mapper) {
+        return new ExpiringView<>(this, r -> r.flatMapSuccess(mapper));
+    }
+
+    @Override
+    public <F2> Result<S, F2> flatMapFailure(
+            Function<? super F, ? extends Result<? extends S, ? extends F2>> mapper) {
+        return new ExpiringView<>(this, r -> r.flatMapFailure(mapper));
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Lazy consumer that dispatches its action to an executor, so that the thread that evaluates a lazy result doesn't
+ * have to wait for side effects.
+ * <p>
+ * Without a key extractor, each value is handed over to the executor as a separate task, with no ordering guarantees.
+ * With a key extractor, values are distributed among a fixed number of stripes by the hash code of their keys. Each
+ * stripe runs its tasks one at a time, in the order they were dispatched, so actions for the same key never overlap
+ * and run in order. Stripes don't hold any threads while they have no tasks to run.
+ * <p>
+ * If the executor rejects a stripe, the value being dispatched is withdrawn and the exception is relayed to the caller.
+ * Values dispatched to the same stripe in the meantime are kept, and they are run by the next dispatch the executor
+ * accepts.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <T> the type of the input to the action
+ */
+final class AsyncLazyConsumer<T> implements LazyConsumer<T> {
+
+    private static final int STRIPES = Integer.highestOneBit(4 * Runtime.getRuntime().availableProcessors() - 1) << 1;
+
+    private final Consumer<? super T> action;
+    private final Executor executor;
+    private final Function<? super T, ?> keyExtractor;
+    private final Stripe[] stripes;
+
+    AsyncLazyConsumer(Consumer<? super T> action, Executor executor) {
+        this.action = action;
+        this.executor = executor;
+        this.keyExtractor = null;
+        this.stripes = null;
+    }
+
+    AsyncLazyConsumer(Consumer<? super T> action, Executor executor, Function<? super T, ?> keyExtractor) {
+        this.action = action;
+        this.executor = executor;
+        this.keyExtractor = keyExtractor;
+        this.stripes = new Stripe[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            this.stripes[i] = new Stripe(executor);
+        }
+    }
+
+    @Override
+    public void accept(T value) {
+        final Runnable task = () -> this.action.accept(value);
+        if (this.keyExtractor == null) {
+            this.executor.execute(task);
+            return;
+        }
+        final int hash = Objects.hashCode(this.keyExtractor.apply(value));
+        this.stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)].execute(task);
+    }
+
+    /** Runs tasks one at a time, in the order they were submitted, borrowing threads from the executor. */
+    private static final class Stripe implements Executor {
+
+        final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        final AtomicBoolean running = new AtomicBoolean();
+        final Executor executor;
+
+        Stripe(Executor executor) {
+            this.executor = executor;
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            this.tasks.add(task);
+            if (!this.running.compareAndSet(false, true)) {
+                // The running drain will pick up the task
+                return;
+            }
+            try {
+                this.executor.execute(this::drain);
+            } catch (RuntimeException e) {
+                // Withdraw the task before letting other dispatches start the stripe again
+                this.tasks.remove(task);
+                this.running.set(false);
+                throw e;
+            }
+        }
+
+        private void drain() {
+            try {
+                Runnable task;
+                while ((task = this.tasks.poll()) != null) {
+                    task.run();
+                }
+            } finally {
+                this.running.set(false);
+                // Tasks may have been added after the last poll, or left behind by a task that failed
+                if (!this.tasks.isEmpty() && this.running.compareAndSet(false, true)) {
+                    this.resubmit();
+                }
+            }
+        }
+
+        private void resubmit() {
+            try {
+                this.executor.execute(this::drain);
+            } catch (RuntimeException e) {
+                // The remaining tasks will be run by the next dispatch the executor accepts
+                this.running.set(false);
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Represents a {@link Result} that will be available in the future.
+ * <p>
+ * Asynchronous results compose their transformations on the backing future, without blocking the calling thread. When
+ * a transformation function returns another asynchronous result, it is composed on the backing future too.
+ * <p>
+ * On the other hand, methods that need the actual success or failure value (such as {@link #hasSuccess()} or
+ * {@link #orElse(Object)}) wait for the future to complete. If the future completes exceptionally, these methods will
+ * relay the exception to their caller.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <S> the type of the success value
+ * @param <F> the type of the failure value
+ * @see LazyResults#ofAsync(Supplier, Executor) Creating asynchronous results
+ * @see LazyResults#ofFuture(CompletionStage)
+ */
+public interface AsyncResult<S, F> extends Result<S, F> {
+
+    /**
+     * Returns a new {@link CompletableFuture} that completes when this asynchronous result is available.
+     * <p>
+     * Completing the returned future does not affect this asynchronous result.
+     *
+     * @return a new future that completes with the actual result
+     */
+    CompletableFuture<Result<S, F>> toCompletableFuture();
+
+    @Override
+    AsyncResult<S, F> ifSuccess(Consumer<? super S> action);
+
+    @Override
+    AsyncResult<S, F> ifSuccessOrElse(Consumer<? super S> successAction, Consumer<? super F> failureAction);
+
+    @Override
+    AsyncResult<S, F> ifFailure(Consumer<? super F> action);
+
+    @Override
+    AsyncResult<S, F> filter(Predicate<? super S> isAcceptable, Function<? super S, ? extends F> mapper);
+
+    @Override
+    AsyncResult<S, F> recover(Predicate<? super F> isRecoverable, Function<? super F, ? extends S> mapper);
+
+    @Override
+    <S2, F2> AsyncResult<S2, F2> map(
+            Function<? super S, ? extends S2> successMapper, Function<? super F, ? extends F2> failureMapper);
+
+    @Override
+    <S2> AsyncResult<S2, F> mapSuccess(Function<? super S, ? extends S2> mapper);
+
+    @Override
+    <F2> AsyncResult<S, F2> mapFailure(Function<? super F, ? extends F2> mapper);
+
+    @Override
+    <S2, F2> AsyncResult<S2, F2> flatMap(
+            Function<? super S, ? extends Result<? extends S2, ? extends F2>> successMapper,
+            Function<? super F, ? extends Result<? extends S2, ? extends F2>> failureMapper);
+
+    @Override
+    <S2> AsyncResult<S2, F> flatMapSuccess(
+            Function<? super S, ? extends Result<? extends S2, ? extends F>> mapper);
+
+    @Override
+    <F2> AsyncResult<S, F2> flatMapFailure(
+            Function<? super F, ? extends Result<? extends S, ? extends F2>> mapper);
+}
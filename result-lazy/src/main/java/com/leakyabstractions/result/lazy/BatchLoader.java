@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Hands out lazy results that are supplied in batches by a bulk loader.
+ * <p>
+ * Keys are collected in a batch until one of its lazy results needs to be evaluated; then the batch is closed and
+ * all its keys are passed to the loader at once. Keys requested after that go to a new batch. Optionally, batches can
+ * also be closed and loaded in the background when they have been open for a maximum amount of time. Once a batch is
+ * loaded, each of its lazy results retains only its own loaded result, not the whole batch.
+ * <p>
+ * Locks are held only while adding keys to a batch and while invoking the loader. They are never held while waiting
+ * for other threads, so virtual threads waiting for a batch don't pin their carrier threads.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <K> the type of the keys
+ * @param <S> the type of the success value
+ * @param <F> the type of the failure value
+ */
+final class BatchLoader<K, S, F> implements Function<K, Result<S, F>> {
+
+    private final Function<? super Set<K>, ? extends Map<K, ? extends Result<S, F>>> loader;
+    private final long maxLatency;
+    private final ScheduledExecutorService scheduler;
+    private final ReentrantLock lock = new ReentrantLock();
+    private Batch current;
+
+    BatchLoader(Function<? super Set<K>, ? extends Map<K, ? extends Result<S, F>>> loader) {
+        this(loader, 0, null);
+    }
+
+    BatchLoader(
+            Function<? super Set<K>, ? extends Map<K, ? extends Result<S, F>>> loader,
+            long maxLatency,
+            ScheduledExecutorService scheduler) {
+        this.loader = loader;
+        this.maxLatency = maxLatency;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public Result<S, F> apply(K key) {
+        final Batch batch;
+        final Result<S, F> result;
+        final boolean created;
+        this.lock.lock();
+        try {
+            created = this.current == null;
+            if (created) {
+                this.current = new Batch();
+            }
+            batch = this.current;
+            result = batch.entries.computeIfAbsent(key, k -> new Entry<>(k, batch)).result;
+        } finally {
+            this.lock.unlock();
+        }
+        if (created && this.scheduler != null) {
+            this.scheduler.schedule(batch::load, this.maxLatency, TimeUnit.NANOSECONDS);
+        }
+        return result;
+    }
+
+    private void close(Batch batch) {
+        this.lock.lock();
+        try {
+            if (this.current == batch) {
+                this.current = null;
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /** Keys collected together, along with their entries; they are loaded at most once. */
+    private final class Batch {
+
+        final Map<K, Entry<K, S, F>> entries = new LinkedHashMap<>();
+        final ReentrantLock loading = new ReentrantLock();
+        volatile boolean loaded;
+
+        void load() {
+            if (this.loaded) {
+                return;
+            }
+            this.loading.lock();
+            try {
+                if (this.loaded) {
+                    return;
+                }
+                BatchLoader.this.close(this);
+                // No more keys can be added, since the batch is closed
+                final Set<K> keys = Collections.unmodifiableSet(new LinkedHashSet<>(this.entries.keySet()));
+                Map<K, ? extends Result<S, F>> map = null;
+                RuntimeException thrown = null;
+                try {
+                    map = BatchLoader.this.loader.apply(keys);
+                    if (map == null) {
+                        thrown = new NoSuchElementException("The loaded results were null");
+                    }
+                } catch (RuntimeException e) {
+                    thrown = e;
+                }
+                // Hand each loaded result over to its entry, so that lazy results don't retain the whole batch
+                for (Entry<K, S, F> entry : this.entries.values()) {
+                    entry.loaded(map != null ? map.get(entry.key) : null, thrown);
+                }
+                this.entries.clear();
+                this.loaded = true;
+            } finally {
+                this.loading.unlock();
+            }
+        }
+    }
+
+    /** Supplies the result loaded for a single key; it retains its batch only until the batch is loaded. */
+    private static final class Entry<K, S, F> implements Supplier<Result<S, F>> {
+
+        final K key;
+        final LazyResult<S, F> result;
+        volatile BatchLoader<K, S, F>.Batch batch;
+        Result<S, F> loaded;
+        RuntimeException thrown;
+
+        Entry(K key, BatchLoader<K, S, F>.Batch batch) {
+            this.key = key;
+            this.batch = batch;
+            this.result = new LazyResult<>(this);
+        }
+
+        @Override
+        public Result<S, F> get() {
+            final BatchLoader<K, S, F>.Batch current = this.batch;
+            if (current != null) {
+                current.load();
+            }
+            if (this.thrown != null) {
+                throw this.thrown;
+            }
+            if (this.loaded == null) {
+                throw new NoSuchElementException("No result was loaded for key: " + this.key);
+            }
+            return this.loaded;
+        }
+
+        void loaded(Result<S, F> loaded, RuntimeException thrown) {
+            this.loaded = loaded;
+            this.thrown = thrown;
+            this.batch = null;
+        }
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Lazy consumer that buffers the values it accepts and hands them over to a bulk sink in batches.
+ * <p>
+ * Accepted values are added to the current batch, which is flushed to the sink when it reaches the maximum size.
+ * Optionally, batches can also be flushed in the background when they have been open for a maximum amount of time.
+ * This way, side effects performed by thousands of lazy results (such as audit writes or metrics pushes) become a
+ * handful of bulk operations.
+ * <p>
+ * Batches are handed over to the sink one at a time, in the order they were filled. Each batch is a new list that the
+ * sink is free to keep. Threads that fill a batch while the sink is still busy with the previous one will wait for
+ * it; other threads keep adding values to a new batch meanwhile.
+ * <p>
+ * Values that are still buffered must be flushed explicitly, or by closing the consumer, before discarding it.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <T> the type of the values
+ */
+public final class BatchingLazyConsumer<T> implements LazyConsumer<T>, AutoCloseable {
+
+    private final Consumer<? super List<T>> sink;
+    private final int maxSize;
+    private final long maxDelay;
+    private final ScheduledExecutorService scheduler;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantLock flushing = new ReentrantLock();
+    private final Queue<List<T>> ready = new ArrayDeque<>();
+    private List<T> current = new ArrayList<>();
+    private boolean closed;
+
+    private BatchingLazyConsumer(
+            Consumer<? super List<T>> sink, int maxSize, long maxDelay, ScheduledExecutorService scheduler) {
+        this.sink = sink;
+        this.maxSize = maxSize;
+        this.maxDelay = maxDelay;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Creates a new lazy consumer that flushes batches to the given sink when they reach a maximum size.
+     *
+     * @param <T> the type of the values
+     * @param sink the operation that consumes batches of values
+     * @param maxSize the maximum number of values in a batch
+     * @return the new lazy consumer
+     * @throws NullPointerException if {@code sink} is {@code null}
+     * @throws IllegalArgumentException if {@code maxSize} is not positive
+     */
+    public static <T> BatchingLazyConsumer<T> ofMaximumSize(Consumer<? super List<T>> sink, int maxSize) {
+        requireNonNull(sink, "sink");
+        return new BatchingLazyConsumer<>(sink, checked(maxSize), 0, null);
+    }
+
+    /**
+     * Creates a new lazy consumer that flushes batches to the given sink when they reach a maximum size, or in the
+     * background after a maximum delay.
+     * <p>
+     * The delay starts when the first value of a batch is accepted. If the batch is still open when {@code maxDelay}
+     * has elapsed, the {@code scheduler} flushes it.
+     *
+     * @apiNote If the {@code sink} throws an exception while flushing a batch in the background, the exception is
+     *     relayed to the {@code scheduler} and the batch is discarded.
+     * @param <T> the type of the values
+     * @param sink the operation that consumes batches of values
+     * @param maxSize the maximum number of values in a batch
+     * @param maxDelay how long a batch may stay open
+     * @param scheduler the executor that will flush batches in the background
+     * @return the new lazy consumer
+     * @throws NullPointerException if {@code sink}, {@code maxDelay} or {@code scheduler} is {@code null}
+     * @throws IllegalArgumentException if {@code maxSize} or {@code maxDelay} is not positive
+     */
+    public static <T> BatchingLazyConsumer<T> ofMaximumSize(
+            Consumer<? super List<T>> sink, int maxSize, Duration maxDelay, ScheduledExecutorService scheduler) {
+        requireNonNull(sink, "sink");
+        requireNonNull(maxDelay, "maxDelay");
+        requireNonNull(scheduler, "scheduler");
+        if (maxDelay.isNegative() || maxDelay.isZero()) {
+            throw new IllegalArgumentException("maxDelay must be positive: " + maxDelay);
+        }
+        return new BatchingLazyConsumer<>(sink, checked(maxSize), nanos(maxDelay), scheduler);
+    }
+
+    /**
+     * Adds the given value to the current batch, flushing it if it reaches the maximum size.
+     *
+     * @apiNote If the {@code sink} throws an exception, it is relayed to the caller of this method and the batch is
+     *     discarded. When used with {@link Result#ifSuccess(Consumer) ifSuccess} and similar methods, this means that
+     *     the exception is relayed to the thread that evaluated the lazy result.
+     * @param value the value to add
+     * @throws IllegalStateException if this consumer has been closed
+     */
+    @Override
+    public void accept(T value) {
+        final boolean full;
+        this.lock.lock();
+        try {
+            if (this.closed) {
+                throw new IllegalStateException("The consumer is closed");
+            }
+            final List<T> batch = this.current;
+            batch.add(value);
+            if (batch.size() == 1 && this.scheduler != null) {
+                this.scheduler.schedule(() -> this.flush(batch), this.maxDelay, TimeUnit.NANOSECONDS);
+            }
+            full = batch.size() >= this.maxSize;
+            if (full) {
+                this.ready.add(batch);
+                this.current = new ArrayList<>();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+        if (full) {
+            this.drain();
+        }
+    }
+
+    /**
+     * Flushes the current batch to the sink, if it's not empty.
+     *
+     * @apiNote If the {@code sink} throws an exception, it is relayed to the caller of this method and the batch is
+     *     discarded.
+     */
+    public void flush() {
+        this.flush(null);
+    }
+
+    /**
+     * Flushes the current batch to the sink and stops accepting values.
+     * <p>
+     * Closing a consumer that is already closed has no effect.
+     *
+     * @apiNote If the {@code sink} throws an exception, it is relayed to the caller of this method and the batch is
+     *     discarded.
+     */
+    @Override
+    public void close() {
+        this.lock.lock();
+        try {
+            this.closed = true;
+        } finally {
+            this.lock.unlock();
+        }
+        this.flush(null);
+    }
+
+    @Override
+    public String toString() {
+        this.lock.lock();
+        try {
+            final int buffered = this.current.size() + this.ready.stream().mapToInt(List::size).sum();
+            return "BatchingLazyConsumer[" + buffered + " buffered" + (this.closed ? ", closed]" : "]");
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void flush(List<T> expected) {
+        this.lock.lock();
+        try {
+            final List<T> batch = this.current;
+            // Scheduled flushes are skipped if their batch has already been flushed
+            if (!batch.isEmpty() && (expected == null || expected == batch)) {
+                this.ready.add(batch);
+                this.current = new ArrayList<>();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+        this.drain();
+    }
+
+    private void drain() {
+        // Hand over batches one at a time, so that the sink gets them in order
+        this.flushing.lock();
+        try {
+            while (true) {
+                final List<T> batch;
+                this.lock.lock();
+                try {
+                    batch = this.ready.poll();
+                } finally {
+                    this.lock.unlock();
+                }
+                if (batch == null) {
+                    return;
+                }
+                this.sink.accept(batch);
+            }
+        } finally {
+            this.flushing.unlock();
+        }
+    }
+
+    private static int checked(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        return maxSize;
+    }
+
+    private static long nanos(Duration maxDelay) {
+        try {
+            return maxDelay.toNanos();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import java.util.function.Consumer;
+
+/**
+ * Lazy consumer that performs a sequence of actions, one after the other.
+ * <p>
+ * Composing lazy consumers appends actions to a flat array instead of nesting composed consumers, so that performing
+ * a widely composed consumer is a simple loop, no matter how many times it was composed. Composites are immutable;
+ * composing one creates a new composite with the combined actions.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <T> the type of the input to the actions
+ */
+final class CompositeLazyConsumer<T> implements LazyConsumer<T> {
+
+    private final Consumer<? super T>[] actions;
+
+    private CompositeLazyConsumer(Consumer<? super T>[] actions) {
+        this.actions = actions;
+    }
+
+    /**
+     * Creates a new composite that performs the actions of {@code first} followed by the actions of {@code after}.
+     *
+     * @param <T> the type of the input to the actions
+     * @param first the action to perform first
+     * @param after the action to perform after {@code first}
+     * @return the new composite
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    static <T> CompositeLazyConsumer<T> of(Consumer<? super T> first, Consumer<? super T> after) {
+        final Consumer<? super T>[] head = actionsOf(first);
+        final Consumer<? super T>[] tail = actionsOf(after);
+        final Consumer<? super T>[] actions = new Consumer[head.length + tail.length];
+        System.arraycopy(head, 0, actions, 0, head.length);
+        System.arraycopy(tail, 0, actions, head.length, tail.length);
+        return new CompositeLazyConsumer<>(actions);
+    }
+
+    @Override
+    public void accept(T value) {
+        for (Consumer<? super T> action : this.actions) {
+            action.accept(value);
+        }
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static <T> Consumer<? super T>[] actionsOf(Consumer<? super T> consumer) {
+        if (consumer instanceof CompositeLazyConsumer) {
+            // Actions of composites accept supertypes of T too
+            return ((CompositeLazyConsumer<T>) consumer).actions;
+        }
+        return new Consumer[] {consumer};
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Lazy {@link Result} that is evaluated again once its supplied result expires.
+ * <p>
+ * Each evaluation is delegated to a new {@link LazyResult}, so threads needing the result at the same time will wait
+ * for the same evaluation. The time to live counts from the moment the supplied result is published. Evaluations that
+ * fail are considered expired right away, so that they can be retried.
+ * <p>
+ * If a recovery function is given, exceptions thrown by the supplier are turned into results by it. These results are
+ * used by the evaluation that captured the exception, but they are not memoized: they expire right away as well.
+ * <p>
+ * If an executor is given, expired results are refreshed in the background, while the stale result is still being
+ * used. Only one refresh at a time is submitted to the executor; the stale result is replaced once the refresh
+ * finishes successfully.
+ * <p>
+ * Deferred operations are applied to the result that is current whenever the derived result is needed, so derived
+ * results are refreshed along with this one.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <S> the type of the success value
+ * @param <F> the type of the failure value
+ */
+final class ExpiringResult<S, F> extends AbstractExpiringResult<S, F> {
+
+    private final Supplier<Result<S, F>> supplier;
+    private final Function<? super RuntimeException, ? extends Result<S, F>> recovery;
+    private final long ttl;
+    private final Executor executor;
+    private final LongSupplier clock;
+    private final AtomicReference<Generation<S, F>> current;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    ExpiringResult(Supplier<Result<S, F>> supplier, long ttl, Executor executor) {
+        this(supplier, null, ttl, executor, System::nanoTime);
+    }
+
+    ExpiringResult(
+            Supplier<Result<S, F>> supplier, Function<? super RuntimeException, ? extends Result<S, F>> recovery) {
+        this(supplier, recovery, Long.MAX_VALUE, null, System::nanoTime);
+    }
+
+    ExpiringResult(Supplier<Result<S, F>> supplier, long ttl, Executor executor, LongSupplier clock) {
+        this(supplier, null, ttl, executor, clock);
+    }
+
+    private ExpiringResult(
+            Supplier<Result<S, F>> supplier,
+            Function<? super RuntimeException, ? extends Result<S, F>> recovery,
+            long ttl,
+            Executor executor,
+            LongSupplier clock) {
+        this.supplier = supplier;
+        this.recovery = recovery;
+        this.ttl = ttl;
+        this.executor = executor;
+        this.clock = clock;
+        this.current = new AtomicReference<>(this.generation());
+    }
+
+    @Override
+    public String toString() {
+        final Generation<S, F> generation = this.current.get();
+        if (!generation.supplied) {
+            return "ExpiringResult[Not supplied]";
+        }
+        return new StringBuilder("ExpiringResult[").append(generation.result.getSupplied()).append("]").toString();
+    }
+
+    @Override
+    Result<S, F> current() {
+        final Generation<S, F> generation = this.current.get();
+        if (!this.isExpired(generation)) {
+            return generation.result;
+        } else if (this.executor != null && generation.supplied) {
+            this.refresh(generation);
+            return generation.result;
+        }
+        final Generation<S, F> next = this.generation();
+        // Only one thread replaces the expired result; the others will use the one that won
+        return this.current.compareAndSet(generation, next) ? next.result : this.current.get().result;
+    }
+
+    private boolean isExpired(Generation<S, F> generation) {
+        if (generation.supplied) {
+            return this.clock.getAsLong() - generation.suppliedAt >= this.ttl;
+        }
+        // Failed evaluations are expired right away
+        return generation.result.isSupplied();
+    }
+
+    private void refresh(Generation<S, F> stale) {
+        if (!this.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        final Generation<S, F> next = this.generation();
+        try {
+            this.executor.execute(() -> {
+                try {
+                    next.result.getSupplied();
+                    this.current.compareAndSet(stale, next);
+                } finally {
+                    this.refreshing.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            this.refreshing.set(false);
+            throw e;
+        }
+    }
+
+    private Generation<S, F> generation() {
+        final Generation<S, F> generation = new Generation<>();
+        generation.result = new LazyResult<>(() -> {
+            final Result<S, F> result;
+            try {
+                result = this.supplier.get();
+            } catch (RuntimeException e) {
+                if (this.recovery == null) {
+                    throw e;
+                }
+                // The recovered result is not marked as supplied, so it expires right away
+                return this.recovery.apply(e);
+            }
+            if (result != null) {
+                generation.suppliedAt = this.clock.getAsLong();
+                generation.supplied = true;
+            }
+            return result;
+        });
+        return generation;
+    }
+
+    /** A single evaluation of the supplier, along with the time when it was published. */
+    private static final class Generation<S, F> {
+
+        LazyResult<S, F> result;
+        long suppliedAt;
+        volatile boolean supplied;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Lazy {@link Result} derived from an expiring result by applying an operation to it.
+ * <p>
+ * The operation is applied to the result that is current upstream when the derived result is needed. As long as the
+ * upstream result doesn't change, the same derived result is used, so the operation is applied once per upstream
+ * result. Derived results are lazy too, so threads needing them at the same time will wait for the same evaluation.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <S0> the type of the upstream success value
+ * @param <F0> the type of the upstream failure value
+ * @param <S> the type of the success value
+ * @param <F> the type of the failure value
+ */
+final class ExpiringView<S0, F0, S, F> extends AbstractExpiringResult<S, F> {
+
+    private final AbstractExpiringResult<S0, F0> upstream;
+    private final Function<? super Result<S0, F0>, ? extends Result<S, F>> operation;
+    private final AtomicReference<Derivation<S0, F0, S, F>> derivation = new AtomicReference<>();
+
+    ExpiringView(
+            AbstractExpiringResult<S0, F0> upstream,
+            Function<? super Result<S0, F0>, ? extends Result<S, F>> operation) {
+        this.upstream = upstream;
+        this.operation = operation;
+    }
+
+    @Override
+    Result<S, F> current() {
+        final Result<S0, F0> source = this.upstream.current();
+        final Derivation<S0, F0, S, F> previous = this.derivation.get();
+        if (previous != null && previous.source == source) {
+            return previous.result;
+        }
+        // The operation is deferred, so that derivations discarded by a race are never evaluated
+        final Derivation<S0, F0, S, F> next =
+                new Derivation<>(source, new LazyResult<>(() -> this.operation.apply(source)));
+        if (this.derivation.compareAndSet(previous, next)) {
+            return next.result;
+        }
+        final Derivation<S0, F0, S, F> winner = this.derivation.get();
+        return winner.source == source ? winner.result : next.result;
+    }
+
+    @Override
+    public String toString() {
+        final Derivation<S0, F0, S, F> current = this.derivation.get();
+        final Result<S, F> supplied = current != null ? current.result.supplied() : null;
+        if (supplied == null) {
+            return "ExpiringResult[Not supplied]";
+        }
+        return new StringBuilder("ExpiringResult[").append(supplied).append("]").toString();
+    }
+
+    /** The result derived from a specific upstream result. */
+    private static final class Derivation<S0, F0, S, F> {
+
+        final Result<S0, F0> source;
+        final LazyResult<S, F> result;
+
+        Derivation(Result<S0, F0> source, LazyResult<S, F> result) {
+            this.source = source;
+            this.result = result;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Implementation of an {@link AsyncResult} backed by a {@link CompletableFuture}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <S> the type of the success value
+ * @param <F> the type of the failure value
+ */
+final class FutureResult<S, F> implements AsyncResult<S, F> {
+
+    private final CompletableFuture<Result<S, F>> future;
+
+    FutureResult(CompletableFuture<Result<S, F>> future) {
+        this.future = future;
+    }
+
+    @Override
+    public CompletableFuture<Result<S, F>> toCompletableFuture() {
+        return this.future.thenApply(Function.identity());
+    }
+
+    @Override
+    public Optional<S> getSuccess() {
+        return this.join().getSuccess();
+    }
+
+    @Override
+    public Optional<F> getFailure() {
+        return this.join().getFailure();
+    }
+
+    @Override
+    public boolean hasSuccess() {
+        return this.join().hasSuccess();
+    }
+
+    @Override
+    public boolean hasFailure() {
+        return this.join().hasFailure();
+    }
+
+    @Override
+    public S orElse(S other) {
+        return this.join().orElse(other);
+    }
+
+    @Override
+    public S orElseMap(Function<? super F, ? extends S> mapper) {
+        return this.join().orElseMap(mapper);
+    }
+
+    @Override
+    public Stream<S> streamSuccess() {
+        return this.join().streamSuccess();
+    }
+
+    @Override
+    public Stream<F> streamFailure() {
+        return this.join().streamFailure();
+    }
+
+    @Override
+    public AsyncResult<S, F> ifSuccess(Consumer<? super S> action) {
+        return this.then(result -> result.ifSuccess(action));
+    }
+
+    @Override
+    public AsyncResult<S, F> ifSuccessOrElse(Consumer<? super S> s, Consumer<? super F> f) {
+        return this.then(result -> result.ifSuccessOrElse(s, f));
+    }
+
+    @Override
+    public AsyncResult<S, F> ifFailure(Consumer<? super F> action) {
+        return this.then(result -> result.ifFailure(action));
+    }
+
+    @Override
+    public AsyncResult<S, F> filter(
+            Predicate<? super S> isAcceptable, Function<? super S, ? extends F> mapper) {
+        return this.then(result -> result.filter(isAcceptable, mapper));
+    }
+
+    @Override
+    public AsyncResult<S, F> recover(
+            Predicate<? super F> isRecoverable, Function<? super F, ? extends S> mapper) {
+        return this.then(result -> result.recover(isRecoverable, mapper));
+    }
+
+    @Override
+    public <S2, F2> AsyncResult<S2, F2> map(
+            Function<? super S, ? extends S2> successMapper,
+            Function<? super F, ? extends F2> failureMapper) {
+        return this.then(result -> result.map(successMapper, failureMapper));
+    }
+
+    @Override
+    public <S2> AsyncResult<S2, F> mapSuccess(Function<? super S, ? extends S2> mapper) {
+        return this.then(result -> result.mapSuccess(mapper));
+    }
+
+    @Override
+    public <F2> AsyncResult<S, F2> mapFailure(Function<? super F, ? extends F2> mapper) {
+        return this.then(result -> result.mapFailure(mapper));
+    }
+
+    @Override
+    public <S2, F2> AsyncResult<S2, F2> flatMap(
+            Function<? super S, ? extends Result<? extends S2, ? extends F2>> successMapper,
+            Function<? super F, ? extends Result<? extends S2, ? extends F2>> failureMapper) {
+        return this.then(result -> result.flatMap(successMapper, failureMapper));
+    }
+
+    @Override
+    public <S2> AsyncResult<S2, F> flatMapSuccess(
+            Function<? super S, ? extends Result<? extends S2, ? extends F>> mapper) {
+        return this.then(result -> result.flatMapSuccess(mapper));
+    }
+
+    @Override
+    public <F2> AsyncResult<S, F2> flatMapFailure(
+            Function<? super F, ? extends Result<? extends S, ? extends F2>> mapper) {
+        return this.then(result -> result.flatMapFailure(mapper));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof FutureResult)) return false;
+        return this.future.equals(((FutureResult<?, ?>) obj).future);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.future.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        final Result<S, F> result = this.future.getNow(null);
+        if (result == null) {
+            return "AsyncResult[Not completed]";
+        }
+        return new StringBuilder("AsyncResult[").append(result).append("]").toString();
+    }
+
+    private <S2, F2> AsyncResult<S2, F2> then(Function<Result<S, F>, Result<S2, F2>> operation) {
+        return new FutureResult<>(this.future.thenCompose(result -> compose(operation.apply(supplied(result)))));
+    }
+
+    private static <S2, F2> CompletableFuture<Result<S2, F2>> compose(Result<S2, F2> result) {
+        if (result instanceof AsyncResult) {
+            // Compose nested asynchronous results instead of waiting for them
+            return ((AsyncResult<S2, F2>) result).toCompletableFuture();
+        }
+        return CompletableFuture.completedFuture(result);
+    }
+
+    private Result<S, F> join() {
+        final Result<S, F> result;
+        try {
+            result = this.future.join();
+        } catch (CompletionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+        return supplied(result);
+    }
+
+    private static <S, F> Result<S, F> supplied(Result<S, F> result) {
+        if (result == null) {
+            throw new NoSuchElementException("The supplied result was null");
+        }
+        return result;
+    }
+}
@@ -18,7 +18,9 @@ package com.leakyabstractions.result.lazy;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import com.leakyabstractions.result.api.Result;
@@ -51,6 +53,9 @@ public interface LazyConsumer<T> extends Consumer<T> {
      * <p>
      * If performing either operation throws an exception, it is relayed to the caller of the composed operation. If
      * performing this operation throws an exception, the {@code after} operation will not be performed.
+     * <p>
+     * Composed lazy consumers keep their operations in a flat sequence, so composing them many times doesn't make
+     * performing them any deeper.
      *
      * @param after the operation to perform after this operation
      * @return a composed lazy consumer that performs in sequence this lazy operation followed by the {@code after}
@@ -60,7 +65,7 @@ public interface LazyConsumer<T> extends Consumer<T> {
     @Override
     default LazyConsumer<T> andThen(Consumer<? super T> after) {
         requireNonNull(after, "after");
-        return Consumer.super.andThen(after)::accept;
+        return CompositeLazyConsumer.of(this, after);
     }
 
     /**
@@ -75,4 +80,52 @@ public interface LazyConsumer<T> extends Consumer<T> {
         requireNonNull(consumer, "consumer");
         return consumer::accept;
     }
+
+    /**
+     * Creates a new lazy consumer that performs the given action asynchronously, using the specified executor.
+     * <p>
+     * Each value is handed over to the {@code executor} as a separate task, so the thread that evaluates a lazy result
+     * doesn't wait for the action to be performed. Actions may be performed concurrently, in any order.
+     *
+     * @apiNote If the action throws an exception, it is relayed to the {@code executor}.
+     * @param <T> the type of the input to the action
+     * @param consumer the action to be performed asynchronously
+     * @param executor the executor that will perform the action
+     * @return the new lazy consumer
+     * @throws NullPointerException if {@code consumer} or {@code executor} is {@code null}
+     * @see #async(Consumer, Executor, Function)
+     */
+    static <T> LazyConsumer<T> async(Consumer<? super T> consumer, Executor executor) {
+        requireNonNull(consumer, "consumer");
+        requireNonNull(executor, "executor");
+        return new AsyncLazyConsumer<>(consumer, executor);
+    }
+
+    /**
+     * Creates a new lazy consumer that performs the given action asynchronously, using the specified executor, while
+     * keeping actions for the same key in order.
+     * <p>
+     * Values are distributed among a fixed number of stripes by the hash code of their keys. Each stripe hands its
+     * actions over to the {@code executor} one at a time, in the order the values were accepted. This way, actions for
+     * values with the same key are never performed concurrently, and they are performed in order. Actions for values
+     * with different keys may be performed concurrently, in any order.
+     *
+     * @apiNote If the action throws an exception, it is relayed to the {@code executor} and the stripe moves on to the
+     *     next action. If the {@code executor} rejects a task, the exception is relayed to the caller and the value is
+     *     not consumed; other values are still consumed, in order, once the {@code executor} accepts a task again.
+     * @param <T> the type of the input to the action
+     * @param consumer the action to be performed asynchronously
+     * @param executor the executor that will perform the action
+     * @param keyExtractor the function that extracts the ordering key from each value
+     * @return the new lazy consumer
+     * @throws NullPointerException if {@code consumer}, {@code executor} or {@code keyExtractor} is {@code null}
+     * @see #async(Consumer, Executor)
+     */
+    static <T> LazyConsumer<T> async(
+            Consumer<? super T> consumer, Executor executor, Function<? super T, ?> keyExtractor) {
+        requireNonNull(consumer, "consumer");
+        requireNonNull(executor, "executor");
+        requireNonNull(keyExtractor, "keyExtractor");
+        return new AsyncLazyConsumer<>(consumer, executor, keyExtractor);
+    }
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Evaluates a list of lazy results concurrently.
+ * <p>
+ * A bounded number of workers take lazy results from the list, one at a time, until every lazy result has been
+ * evaluated. The calling thread acts as one of the workers, so that it doesn't sit idle while waiting for the others.
+ * Failed evaluations don't stop the workers; the first exception is thrown once all the workers have finished, along
+ * with the rest of them as suppressed exceptions.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+final class LazyEvaluation implements Runnable {
+
+    private final List<LazyResult<?, ?>> results;
+    private final AtomicInteger next = new AtomicInteger();
+    private final CountDownLatch finished;
+    private final Queue<Throwable> thrown = new ConcurrentLinkedQueue<>();
+
+    private LazyEvaluation(List<LazyResult<?, ?>> results, int workers) {
+        this.results = results;
+        this.finished = new CountDownLatch(workers);
+    }
+
+    /**
+     * Evaluates the given lazy results concurrently, waiting until all of them are evaluated.
+     *
+     * @param results the lazy results to evaluate
+     * @param executor the executor that will run the additional workers
+     * @param parallelism the maximum number of workers, including the calling thread
+     */
+    static void evaluate(List<LazyResult<?, ?>> results, Executor executor, int parallelism) {
+        final int workers = Math.min(parallelism, results.size());
+        if (workers == 0) {
+            return;
+        }
+        final LazyEvaluation evaluation = new LazyEvaluation(results, workers);
+        int submitted = 0;
+        try {
+            for (; submitted < workers - 1; submitted++) {
+                executor.execute(evaluation);
+            }
+        } finally {
+            // Make up for the workers that could not be submitted
+            for (int i = submitted; i < workers - 1; i++) {
+                evaluation.finished.countDown();
+            }
+            evaluation.run();
+            evaluation.await();
+        }
+        evaluation.rethrow();
+    }
+
+    @Override
+    public void run() {
+        try {
+            for (int i = this.next.getAndIncrement(); i < this.results.size(); i = this.next.getAndIncrement()) {
+                try {
+                    this.results.get(i).getSupplied();
+                } catch (RuntimeException | Error e) {
+                    this.thrown.add(e);
+                }
+            }
+        } finally {
+            this.finished.countDown();
+        }
+    }
+
+    private void await() {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                this.finished.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void rethrow() {
+        final Throwable first = this.thrown.poll();
+        if (first == null) {
+            return;
+        }
+        for (Throwable e : this.thrown) {
+            if (e != first) {
+                first.addSuppressed(e);
+            }
+        }
+        if (first instanceof Error) {
+            throw (Error) first;
+        }
+        throw (RuntimeException) first;
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.OptionalInt;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongToIntFunction;
+import java.util.function.ToIntFunction;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Lazy result whose success value is a primitive {@code int}.
+ * <p>
+ * These lazy results are created by converting the success value of another result, and can be transformed with
+ * primitive operations that are deferred until the lazy result is evaluated. Intermediate values are never boxed, so
+ * numeric pipelines (such as scores or counters) don't allocate wrapper objects along the way.
+ * <p>
+ * Just like regular lazy results, these lazy results are evaluated at most once, and they release their operations
+ * (along with their upstream lazy results) once evaluated.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <F> the type of the failure value
+ * @see LazyResults#mapToInt(Result, ToIntFunction) Creating lazy int results
+ */
+public final class LazyIntResult<F> extends LazyPrimitiveResult<F> {
+
+    private Object operation;
+    int value;
+
+    LazyIntResult(Object source, Object operation) {
+        super(source);
+        this.operation = operation;
+    }
+
+    /**
+     * If this lazy result is a success, returns an {@link OptionalInt} describing the success value.
+     *
+     * @return an {@code OptionalInt} describing the success value, or an empty {@code OptionalInt} if this lazy
+     *     result is a failure
+     */
+    public OptionalInt getSuccess() {
+        return this.hasSuccess() ? OptionalInt.of(this.value) : OptionalInt.empty();
+    }
+
+    /**
+     * Returns the success value of this lazy result, or {@code other} if it is a failure.
+     *
+     * @param other the value to be returned if this lazy result is a failure
+     * @return the success value, or {@code other}
+     */
+    public int orElse(int other) {
+        return this.hasSuccess() ? this.value : other;
+    }
+
+    /**
+     * Returns the success value of this lazy result, or the failure value transformed by the given mapper if it is a
+     * failure.
+     *
+     * @param mapper the function to apply to the failure value
+     * @return the success value, or the transformed failure value
+     * @throws NullPointerException if {@code mapper} is {@code null}
+     */
+    public int orElseMap(ToIntFunction<? super F> mapper) {
+        requireNonNull(mapper, "mapper");
+        return this.hasSuccess() ? this.value : mapper.applyAsInt(this.failure());
+    }
+
+    /**
+     * Returns a new lazy result whose success value is the success value of this lazy result transformed by the given
+     * mapper.
+     * <p>
+     * The {@code mapper} is not invoked until the returned lazy result is evaluated. Failures are carried over.
+     *
+     * @param mapper the function to apply to the success value
+     * @return the new lazy result
+     * @throws NullPointerException if {@code mapper} is {@code null}
+     */
+    public LazyIntResult<F> mapSuccess(IntUnaryOperator mapper) {
+        requireNonNull(mapper, "mapper");
+        return new LazyIntResult<>(this, mapper);
+    }
+
+    /**
+     * Returns a new lazy result whose success value is the success value of this lazy result converted to
+     * {@code long} by the given mapper.
+     * <p>
+     * The {@code mapper} is not invoked until the returned lazy result is evaluated. Failures are carried over.
+     *
+     * @param mapper the function to apply to the success value
+     * @return the new lazy result
+     * @throws NullPointerException if {@code mapper} is {@code null}
+     */
+    public LazyLongResult<F> mapToLong(IntToLongFunction mapper) {
+        requireNonNull(mapper, "mapper");
+        return new LazyLongResult<>(this, mapper);
+    }
+
+    /**
+     * Returns a new lazy result whose success value is the success value of this lazy result converted to
+     * {@code double} by the given mapper.
+     * <p>
+     * The {@code mapper} is not invoked until the returned lazy result is evaluated. Failures are carried over.
+     *
+     * @param mapper the function to apply to the success value
+     * @return the new lazy result
+     * @throws NullPointerException if {@code mapper} is {@code null}
+     */
+    public LazyDoubleResult<F> mapToDouble(IntToDoubleFunction mapper) {
+        requireNonNull(mapper, "mapper");
+        return new LazyDoubleResult<>(this, mapper);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    void convert(Object success) {
+        this.value = ((ToIntFunction<Object>) this.operation).applyAsInt(success);
+        this.operation = null;
+    }
+
+    @Override
+    void apply(LazyPrimitiveResult<F> upstream) {
+        final Object current = this.operation;
+        if (upstream instanceof LazyIntResult) {
+            this.value = ((IntUnaryOperator) current).applyAsInt(((LazyIntResult<F>) upstream).value);
+        } else if (upstream instanceof LazyLongResult) {
+            this.value = ((LongToIntFunction) current).applyAsInt(((LazyLongResult<F>) upstream).value);
+        } else {
+            this.value = ((DoubleToIntFunction) current).applyAsInt(((LazyDoubleResult<F>) upstream).value);
+        }
+        this.operation = null;
+    }
+
+    @Override
+    String success() {
+        return String.valueOf(this.value);
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.OptionalLong;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToLongFunction;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Lazy result whose success value is a primitive {@code long}.
+ * <p>
+ * These lazy results are created by converting the success value of another result, and can be transformed with
+ * primitive operations that are deferred until the lazy result is evaluated. Intermediate values are never boxed, so
+ * numeric pipelines (such as timestamps or large counters) don't allocate wrapper objects along the way.
+ * <p>
+ * Just like regular lazy results, these lazy results are evaluated at most once, and they release their operations
+ * (along with their upstream lazy results) once evaluated.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <F> the type of the failure value
+ * @see LazyResults#mapToLong(Result, ToLongFunction) Creating lazy long results
+ */
+public final class LazyLongResult<F> extends LazyPrimitiveResult<F> {
+
+    private Object operation;
+    long value;
+
+    LazyLongResult(Object source, Object operation) {
+        super(source);
+        this.operation = operation;
+    }
+
+    /**
+     * If this lazy result is a success, returns an {@link OptionalLong} describing the success value.
+     *
+     * @return an {@code OptionalLong} describing the success value, or an empty {@code OptionalLong} if this lazy
+     *     result is a failure
+     */
+    public OptionalLong getSuccess() {
+        return this.hasSuccess() ? OptionalLong.of(this.value) : OptionalLong.empty();
+    }
+
+    /**
+     * Returns the success value of this lazy result, or {@code other} if it is a failure.
+     *
+     * @param other the value to be returned if this lazy result is a failure
+     * @return the success value, or {@code other}
+     */
+    public long orElse(long other) {
+        return this.hasSuccess() ? this.value : other;
+    }
+
+    /**
+     * Returns the success value of this lazy result, or the failure value transformed by the given mapper if it is a
+     * failure.
+     *
+     * @param mapper the function to apply to the failure value
+     * @return the success value, or the transformed failure value
+     * @throws NullPointerException if {@code mapper} is {@code null}
+     */
+    public long orElseMap(ToLongFunction<? super F> mapper) {
+        requireNonNull(mapper, "mapper");
+        return this.hasSuccess() ? this.value : mapper.applyAsLong(this.failure());
+    }
+
+    /**
+     * Returns a new lazy result whose success value is the success value of this lazy result transformed by the given
+     * mapper.
+     * <p>
+     * The {@code mapper} is not invoked until the returned lazy result is evaluated. Failures are carried over.
+     *
+     * @param mapper the function to apply to the success value
+     * @return the new lazy result
+     * @throws NullPointerException if {@code mapper} is {@code null}
+     */
+    public LazyLongResult<F> mapSuccess(LongUnaryOperator mapper) {
+        requireNonNull(mapper, "mapper");
+        return new LazyLongResult<>(this, mapper);
+    }
+
+    /**
+     * Returns a new lazy result whose success value is the success value of this lazy result converted to
+     * {@code int} by the given mapper.
+     * <p>
+     * The {@code mapper} is not invoked until the returned lazy result is evaluated. Failures are carried over.
+     *
+     * @param mapper the function to apply to the success value
+     * @return the new lazy result
+     * @throws NullPointerException if {@code mapper} is {@code null}
+     */
+    public LazyIntResult<F> mapToInt(LongToIntFunction mapper) {
+        requireNonNull(mapper, "mapper");
+        return new LazyIntResult<>(this, mapper);
+    }
+
+    /**
+     * Returns a new lazy result whose success value is the success value of this lazy result converted to
+     * {@code double} by the given mapper.
+     * <p>
+     * The {@code mapper} is not invoked until the returned lazy result is evaluated. Failures are carried over.
+     *
+     * @param mapper the function to apply to the success value
+     * @return the new lazy result
+     * @throws NullPointerException if {@code mapper} is {@code null}
+     */
+    public LazyDoubleResult<F> mapToDouble(LongToDoubleFunction mapper) {
+        requireNonNull(mapper, "mapper");
+        return new LazyDoubleResult<>(this, mapper);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    void convert(Object success) {
+        this.value = ((ToLongFunction<Object>) this.operation).applyAsLong(success);
+        this.operation = null;
+    }
+
+    @Override
+    void apply(LazyPrimitiveResult<F> upstream) {
+        final Object current = this.operation;
+        if (upstream instanceof LazyIntResult) {
+            this.value = ((IntToLongFunction) current).applyAsLong(((LazyIntResult<F>) upstream).value);
+        } else if (upstream instanceof LazyLongResult) {
+            this.value = ((LongUnaryOperator) current).applyAsLong(((LazyLongResult<F>) upstream).value);
+        } else {
+            this.value = ((DoubleToLongFunction) current).applyAsLong(((LazyDoubleResult<F>) upstream).value);
+        }
+        this.operation = null;
+    }
+
+    @Override
+    String success() {
+        return String.valueOf(this.value);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import java.util.function.Supplier;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Represents an operation deferred by a {@link LazyResult}.
+ * <p>
+ * Lazy results created by deferred operations use these objects as their suppliers. This allows the evaluation engine
+ * to walk a whole chain of deferred operations and apply them in a single pass, instead of invoking each supplier
+ * recursively.
+ * <p>
+ * Operations also declare which aspects of the upstream result they preserve, so that queries that only observe
+ * those aspects can skip them.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <S> the type of the upstream success value
+ * @param <F> the type of the upstream failure value
+ * @param <S2> the type of the transformed success value
+ * @param <F2> the type of the transformed failure value
+ */
+abstract class LazyOperation<S, F, S2, F2> implements Supplier<Result<S2, F2>> {
+
+    /** The operation never changes whether the result is successful or failed. */
+    static final int STATUS = 1;
+
+    /** The operation never changes the success value, nor the status. */
+    static final int SUCCESS = STATUS | 2;
+
+    /** The operation never changes the failure value, nor the status. */
+    static final int FAILURE = STATUS | 4;
+
+    final LazyResult<S, F> upstream;
+    private final int preserved;
+
+    LazyOperation(LazyResult<S, F> upstream) {
+        this(upstream, 0);
+    }
+
+    LazyOperation(LazyResult<S, F> upstream, int preserved) {
+        this.upstream = upstream;
+        this.preserved = preserved;
+    }
+
+    /**
+     * Tells whether this operation preserves the given aspects of the upstream result.
+     *
+     * @param aspects the aspects to check ({@link #STATUS}, {@link #SUCCESS} or {@link #FAILURE})
+     * @return {@code true} if the transformed result can be observed through the upstream result as far as the given
+     *     aspects are concerned
+     */
+    boolean preserves(int aspects) {
+        return (this.preserved & aspects) == aspects;
+    }
+
+    /**
+     * Applies this operation to the result supplied by the upstream lazy result.
+     *
+     * @param result the result supplied by the upstream lazy result
+     * @return the transformed result
+     */
+    abstract Result<S2, F2> apply(Result<S, F> result);
+
+    @Override
+    public Result<S2, F2> get() {
+        return this.apply(this.upstream.getSupplied());
+    }
+}
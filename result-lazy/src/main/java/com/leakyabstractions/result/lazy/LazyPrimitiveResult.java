@@ -0,0 +1,282 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Base class of the lazy results whose success values are primitive numbers.
+ * <p>
+ * Each node either converts the success value of a regular {@link Result}, or applies a primitive operation to the
+ * success value of its upstream node. Primitive values are stored in plain fields of the subclasses and published via
+ * the {@code status} field, so that chains of primitive operations don't box their intermediate values.
+ * <p>
+ * The result being converted is resolved before claiming the node, so that threads never wait for a slow supplier
+ * while holding a claim. Then, the thread that manages to claim a node applies its operation, and other threads park
+ * until the value is published. Operations that evaluate the node they belong to get a
+ * {@link NoSuchElementException} instead of waiting forever. Long chains of unevaluated nodes are evaluated
+ * iteratively, from the most upstream one down to the node being evaluated.
+ * <p>
+ * Failures are carried over from the converted result, without applying any operations. If an operation throws an
+ * exception, it is relayed to the thread that claimed the node; after that, evaluating the node throws
+ * {@link NoSuchElementException}, with that exception as its cause.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <F> the type of the failure value
+ */
+abstract class LazyPrimitiveResult<F> {
+
+    private static final int PENDING = 0;
+    private static final int CLAIMED = 1;
+    private static final int SUCCESS = 2;
+    private static final int FAILURE = 3;
+    private static final int BROKEN = 4;
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<LazyPrimitiveResult> STATUS =
+            AtomicIntegerFieldUpdater.newUpdater(LazyPrimitiveResult.class, "status");
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<LazyPrimitiveResult, Waiter> WAITERS =
+            AtomicReferenceFieldUpdater.newUpdater(LazyPrimitiveResult.class, Waiter.class, "waiters");
+
+    private static final Waiter RELEASED = new Waiter(null);
+
+    private volatile int status;
+    private volatile Waiter waiters;
+    private Thread owner;
+    private Object source;
+    private F failure;
+
+    LazyPrimitiveResult(Object source) {
+        this.source = source;
+    }
+
+    /**
+     * If this lazy result is a success, returns {@code true}.
+     *
+     * @return {@code true} if this lazy result is a success, otherwise {@code false}
+     */
+    public boolean hasSuccess() {
+        return this.resolve() == SUCCESS;
+    }
+
+    /**
+     * If this lazy result is a failure, returns {@code true}.
+     *
+     * @return {@code true} if this lazy result is a failure, otherwise {@code false}
+     */
+    public boolean hasFailure() {
+        return this.resolve() == FAILURE;
+    }
+
+    /**
+     * If this lazy result is a failure, returns an {@link Optional} describing the failure value.
+     *
+     * @return an {@code Optional} describing the failure value, or an empty {@code Optional} if this lazy result is a
+     *     success
+     */
+    public Optional<F> getFailure() {
+        return this.hasFailure() ? Optional.of(this.failure) : Optional.empty();
+    }
+
+    @Override
+    public String toString() {
+        final int current = this.status;
+        final StringBuilder builder = new StringBuilder(this.getClass().getSimpleName()).append('[');
+        if (current == SUCCESS) {
+            builder.append("Success: ").append(this.success());
+        } else if (current == FAILURE) {
+            builder.append("Failure: ").append(this.failure);
+        } else {
+            builder.append("Not supplied");
+        }
+        return builder.append(']').toString();
+    }
+
+    /**
+     * Sets the success value of this node by converting the success value of the given result.
+     *
+     * @param success the success value of the result being converted
+     */
+    abstract void convert(Object success);
+
+    /**
+     * Sets the success value of this node by applying its operation to the success value of the given node.
+     *
+     * @param upstream the upstream node, which is known to be a success
+     */
+    abstract void apply(LazyPrimitiveResult<F> upstream);
+
+    /**
+     * Returns the success value of this node as a string.
+     *
+     * @return the success value as a string
+     */
+    abstract String success();
+
+    final F failure() {
+        return this.failure;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int resolve() {
+        if (this.status < SUCCESS) {
+            final Object upstream = this.source;
+            if (!(upstream instanceof LazyPrimitiveResult) || ((LazyPrimitiveResult<F>) upstream).status >= SUCCESS) {
+                // Only this node needs to be evaluated
+                this.evaluate();
+                return this.checked();
+            }
+            // Collect every unevaluated upstream node, so that long chains don't overflow the stack
+            final Deque<LazyPrimitiveResult<F>> pending = new ArrayDeque<>();
+            LazyPrimitiveResult<F> node = this;
+            while (node != null && node.status < SUCCESS) {
+                pending.push(node);
+                final Object next = node.source;
+                node = next instanceof LazyPrimitiveResult ? (LazyPrimitiveResult<F>) next : null;
+            }
+            while (!pending.isEmpty()) {
+                pending.pop().evaluate();
+            }
+        }
+        return this.checked();
+    }
+
+    private int checked() {
+        final int current = this.status;
+        if (current == BROKEN) {
+            final NoSuchElementException exception = new NoSuchElementException("The result could not be supplied");
+            final Object cause = this.source;
+            if (cause instanceof Throwable) {
+                exception.initCause((Throwable) cause);
+            }
+            throw exception;
+        }
+        return current;
+    }
+
+    private void evaluate() {
+        if (this.status == PENDING) {
+            final Object current = this.source;
+            if (current instanceof Result) {
+                // Don't hold the claim while the result being converted is evaluated
+                ((Result<?, ?>) current).getSuccess();
+            }
+            if (STATUS.compareAndSet(this, PENDING, CLAIMED)) {
+                this.owner = Thread.currentThread();
+                this.supply();
+                return;
+            }
+        }
+        if (this.status == CLAIMED) {
+            this.await();
+        }
+    }
+
+    private void await() {
+        final Thread current = Thread.currentThread();
+        if (this.owner == current) {
+            // The operation is trying to evaluate its own node
+            throw new NoSuchElementException("The result could not be supplied");
+        }
+        for (int spins = LazyResultState.spins(); spins > 0; spins--) {
+            // Spin briefly before parking, in case the value is about to be published
+            if (this.status != CLAIMED) {
+                return;
+            }
+            LazyResultState.onSpinWait();
+        }
+        final Waiter node = new Waiter(current);
+        do {
+            node.next = this.waiters;
+            if (node.next == RELEASED) {
+                return;
+            }
+        } while (!WAITERS.compareAndSet(this, node.next, node));
+        boolean interrupted = false;
+        while (this.status == CLAIMED) {
+            LockSupport.park(this);
+            interrupted |= Thread.interrupted();
+        }
+        if (interrupted) {
+            current.interrupt();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void supply() {
+        int outcome = BROKEN;
+        Object cause = null;
+        try {
+            final Object current = this.source;
+            if (current instanceof LazyPrimitiveResult) {
+                final LazyPrimitiveResult<F> upstream = (LazyPrimitiveResult<F>) current;
+                final int upstreamStatus = upstream.status;
+                if (upstreamStatus == SUCCESS) {
+                    this.apply(upstream);
+                } else if (upstreamStatus == FAILURE) {
+                    this.failure = upstream.failure;
+                } else {
+                    cause = upstream.source;
+                }
+                outcome = upstreamStatus;
+            } else {
+                final Result<?, F> result = (Result<?, F>) current;
+                final Optional<?> success = result.getSuccess();
+                if (success.isPresent()) {
+                    this.convert(success.get());
+                    outcome = SUCCESS;
+                } else {
+                    this.failure = result.getFailure().orElse(null);
+                    outcome = FAILURE;
+                }
+            }
+        } catch (RuntimeException | Error e) {
+            cause = e;
+            throw e;
+        } finally {
+            // Release the upstream node (or the converted result), keeping the exception thrown, if any
+            this.source = cause;
+            this.owner = null;
+            this.status = outcome;
+            // Wake up every thread that was waiting for the outcome
+            for (Waiter w = WAITERS.getAndSet(this, RELEASED); w != null; w = w.next) {
+                LockSupport.unpark(w.thread);
+            }
+        }
+    }
+
+    /** Node of the stack of threads waiting for the outcome of a claimed node. */
+    private static final class Waiter {
+
+        final Thread thread;
+        Waiter next;
+
+        Waiter(Thread thread) {
+            this.thread = thread;
+        }
+    }
+}
@@ -16,19 +16,61 @@
 
 package com.leakyabstractions.result.lazy;
 
+import static com.leakyabstractions.result.lazy.LazyThreadSafetyMode.NONE;
+import static com.leakyabstractions.result.lazy.LazyThreadSafetyMode.PUBLICATION;
+import static com.leakyabstractions.result.lazy.LazyThreadSafetyMode.SYNCHRONIZED;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.NoSuchElementException;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import com.leakyabstractions.result.api.Result;
 
 /**
  * Lazy implementation of a {@link Result}.
+ * <p>
+ * The evaluation is driven by a single {@code state} field, which initially holds the {@link LazyThreadSafetyMode}
+ * of the lazy result (or a {@link LazyResultMetrics} tracker that knows the mode). In
+ * {@link LazyThreadSafetyMode#SYNCHRONIZED SYNCHRONIZED} mode, the state goes to a stack of {@code Waiter} nodes
+ * (while the supplier is being invoked) and then to the supplied result. The thread that manages to replace the
+ * initial state invokes the supplier; other threads push themselves onto the stack and park until the result is
+ * published. Other modes go straight to the supplied result, either atomically or not at all.
+ * <p>
+ * Waiting threads are parked via {@link LockSupport} and no monitor is ever held while invoking suppliers or mappers,
+ * so virtual threads waiting for a slow supplier don't pin their carrier threads. The state field is accessed through
+ * {@link LazyResultState}, which has a specific implementation for each supported Java version.
+ * <p>
+ * Deferred operations create lazy results backed by a {@link LazyOperation}. When one of them needs to be evaluated,
+ * the thread claims every consecutive upstream node that has not been supplied yet and then applies all their
+ * operations in a single pass, from the most upstream one down to the node being evaluated.
+ * <p>
+ * Nodes that evaluate to another lazy result (for example, when a {@code flatMap} mapper returns a lazy result) are
+ * not published until the nested lazy result is evaluated too. Nested results are evaluated by the same loop, using an
+ * explicit stack of pending nodes, so that the evaluation depth is bounded by the heap instead of the thread stack.
+ * <p>
+ * Once a node created by a deferred operation is published, its operation is released. This way, evaluated lazy
+ * results don't retain their upstream nodes, nor the mappers and whatever objects they captured.
+ * <p>
+ * Queries that only observe part of the result skip the deferred operations that can't change it. For example,
+ * {@link #hasSuccess()} skips mappers and lazy actions, since they never turn a success into a failure, and
+ * {@link #getFailure()} skips success mappers. Skipped nodes are not evaluated, so their mappers are not invoked
+ * until the whole result is needed.
+ * <p>
+ * Registered {@link LazyResultListener listeners} are notified when nodes are created, when operations are deferred
+ * or applied eagerly, and when evaluations start and end. The current listener is read once per notification point,
+ * and nothing else is done when there is none. Evaluations and waits are also reported to the flight recorder via
+ * {@link LazyResultEvents}, when supported and enabled.
  *
  * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
  * @param <S> the type of the success value
@@ -36,37 +78,53 @@ import com.leakyabstractions.result.api.Result;
  */
 final class LazyResult<S, F> implements Result<S, F> {
 
-    private final Supplier<Result<S, F>> supplier;
-    private final AtomicReference<Result<S, F>> supplied = new AtomicReference<>();
-    private volatile boolean isNotSupplied = true;
+    private static final Broken BROKEN = new Broken(null);
+    private static final Object FORWARD = new Object();
+    private static final int CHARACTERISTICS =
+            Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE;
+
+    private Supplier<Result<S, F>> supplier;
+    volatile Object state;
 
     LazyResult(Supplier<Result<S, F>> supplier) {
+        this(supplier, SYNCHRONIZED);
+    }
+
+    LazyResult(Supplier<Result<S, F>> supplier, LazyThreadSafetyMode mode) {
         this.supplier = supplier;
+        this.state = mode;
+        final LazyResultListener listener = LazyResultListeners.current;
+        if (listener != null) {
+            listener.onCreate(this);
+        }
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public Optional<S> getSuccess() {
-        return this.getSupplied().getSuccess();
+        return ((Result<S, ?>) this.observing(LazyOperation.SUCCESS)).getSuccess();
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public Optional<F> getFailure() {
-        return this.getSupplied().getFailure();
+        return ((Result<?, F>) this.observing(LazyOperation.FAILURE)).getFailure();
     }
 
     @Override
     public boolean hasSuccess() {
-        return this.getSupplied().hasSuccess();
+        return this.observing(LazyOperation.STATUS).hasSuccess();
     }
 
     @Override
     public boolean hasFailure() {
-        return this.getSupplied().hasFailure();
+        return this.observing(LazyOperation.STATUS).hasFailure();
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public S orElse(S other) {
-        return this.getSupplied().orElse(other);
+        return ((Result<S, ?>) this.observing(LazyOperation.SUCCESS)).orElse(other);
     }
 
     @Override
@@ -76,124 +134,614 @@ final class LazyResult<S, F> implements Result<S, F> {
 
     @Override
     public Stream<S> streamSuccess() {
-        return this.getSupplied().streamSuccess();
+        final Result<S, F> supplied = this.supplied();
+        if (supplied != null) {
+            return supplied.streamSuccess();
+        }
+        return StreamSupport.stream(() -> spliterator(this.getSupplied().getSuccess()), CHARACTERISTICS, false);
     }
 
     @Override
     public Stream<F> streamFailure() {
-        return this.getSupplied().streamFailure();
+        final Result<S, F> supplied = this.supplied();
+        if (supplied != null) {
+            return supplied.streamFailure();
+        }
+        return StreamSupport.stream(() -> spliterator(this.getSupplied().getFailure()), CHARACTERISTICS, false);
     }
 
     @Override
     public Result<S, F> ifSuccess(Consumer<? super S> action) {
-        return lazily(
-                this.isNotSupplied && action instanceof LazyConsumer,
-                () -> this.getSupplied().ifSuccess(action));
+        final Result<S, F> supplied = this.eager();
+        if (supplied != null) {
+            return supplied.ifSuccess(action);
+        }
+        return this.lazily(
+                action instanceof LazyConsumer,
+                new LazyOperation<S, F, S, F>(this, LazyOperation.STATUS) {
+                    @Override
+                    Result<S, F> apply(Result<S, F> result) {
+                        return result.ifSuccess(action);
+                    }
+                });
     }
 
     @Override
     public Result<S, F> ifSuccessOrElse(Consumer<? super S> s, Consumer<? super F> f) {
-        return lazily(
-                this.isNotSupplied && s instanceof LazyConsumer && f instanceof LazyConsumer,
-                () -> this.getSupplied().ifSuccessOrElse(s, f));
+        final Result<S, F> supplied = this.eager();
+        if (supplied != null) {
+            return supplied.ifSuccessOrElse(s, f);
+        }
+        return this.lazily(
+                s instanceof LazyConsumer && f instanceof LazyConsumer,
+                new LazyOperation<S, F, S, F>(this, LazyOperation.STATUS) {
+                    @Override
+                    Result<S, F> apply(Result<S, F> result) {
+                        return result.ifSuccessOrElse(s, f);
+                    }
+                });
     }
 
     @Override
     public Result<S, F> ifFailure(Consumer<? super F> action) {
-        return lazily(
-                this.isNotSupplied && action instanceof LazyConsumer,
-                () -> this.getSupplied().ifFailure(action));
+        final Result<S, F> supplied = this.eager();
+        if (supplied != null) {
+            return supplied.ifFailure(action);
+        }
+        return this.lazily(
+                action instanceof LazyConsumer,
+                new LazyOperation<S, F, S, F>(this, LazyOperation.STATUS) {
+                    @Override
+                    Result<S, F> apply(Result<S, F> result) {
+                        return result.ifFailure(action);
+                    }
+                });
     }
 
     @Override
     public Result<S, F> filter(
             Predicate<? super S> isAcceptable, Function<? super S, ? extends F> mapper) {
-        return lazily(this.isNotSupplied, () -> this.getSupplied().filter(isAcceptable, mapper));
+        final Result<S, F> supplied = this.eager();
+        if (supplied != null) {
+            return supplied.filter(isAcceptable, mapper);
+        }
+        return this.lazily(
+                true,
+                new LazyOperation<S, F, S, F>(this) {
+                    @Override
+                    Result<S, F> apply(Result<S, F> result) {
+                        return result.filter(isAcceptable, mapper);
+                    }
+                });
     }
 
     @Override
     public Result<S, F> recover(
             Predicate<? super F> isRecoverable, Function<? super F, ? extends S> mapper) {
-        return lazily(this.isNotSupplied, () -> this.getSupplied().recover(isRecoverable, mapper));
+        final Result<S, F> supplied = this.eager();
+        if (supplied != null) {
+            return supplied.recover(isRecoverable, mapper);
+        }
+        return this.lazily(
+                true,
+                new LazyOperation<S, F, S, F>(this) {
+                    @Override
+                    Result<S, F> apply(Result<S, F> result) {
+                        return result.recover(isRecoverable, mapper);
+                    }
+                });
     }
 
     @Override
     public <S2, F2> Result<S2, F2> map(
             Function<? super S, ? extends S2> successMapper,
             Function<? super F, ? extends F2> failureMapper) {
-        return lazily(this.isNotSupplied, () -> this.getSupplied().map(successMapper, failureMapper));
+        final Result<S, F> supplied = this.eager();
+        if (supplied != null) {
+            return supplied.map(successMapper, failureMapper);
+        }
+        return this.lazily(
+                true,
+                new LazyOperation<S, F, S2, F2>(this, LazyOperation.STATUS) {
+                    @Override
+                    Result<S2, F2> apply(Result<S, F> result) {
+                        return result.map(successMapper, failureMapper);
+                    }
+                });
     }
 
     @Override
     public <S2> Result<S2, F> mapSuccess(Function<? super S, ? extends S2> mapper) {
-        return lazily(this.isNotSupplied, () -> this.getSupplied().mapSuccess(mapper));
+        final Result<S, F> supplied = this.eager();
+        if (supplied != null) {
+            return supplied.mapSuccess(mapper);
+        }
+        return this.lazily(
+                true,
+                new LazyOperation<S, F, S2, F>(this, LazyOperation.FAILURE) {
+                    @Override
+                    Result<S2, F> apply(Result<S, F> result) {
+                        return result.mapSuccess(mapper);
+                    }
+                });
     }
 
     @Override
     public <F2> Result<S, F2> mapFailure(Function<? super F, ? extends F2> mapper) {
-        return lazily(this.isNotSupplied, () -> this.getSupplied().mapFailure(mapper));
+        final Result<S, F> supplied = this.eager();
+        if (supplied != null) {
+            return supplied.mapFailure(mapper);
+        }
+        return this.lazily(
+                true,
+                new LazyOperation<S, F, S, F2>(this, LazyOperation.SUCCESS) {
+                    @Override
+                    Result<S, F2> apply(Result<S, F> result) {
+                        return result.mapFailure(mapper);
+                    }
+                });
     }
 
     @Override
     public <S2, F2> Result<S2, F2> flatMap(
             Function<? super S, ? extends Result<? extends S2, ? extends F2>> successMapper,
             Function<? super F, ? extends Result<? extends S2, ? extends F2>> failureMapper) {
-        return lazily(
-                this.isNotSupplied, () -> this.getSupplied().flatMap(successMapper, failureMapper));
+        final Result<S, F> supplied = this.eager();
+        if (supplied != null) {
+            return supplied.flatMap(successMapper, failureMapper);
+        }
+        return this.lazily(
+                true,
+                new LazyOperation<S, F, S2, F2>(this) {
+                    @Override
+                    Result<S2, F2> apply(Result<S, F> result) {
+                        return result.flatMap(successMapper, failureMapper);
+                    }
+                });
     }
 
     @Override
     public <S2> Result<S2, F> flatMapSuccess(
             Function<? super S, ? extends Result<? extends S2, ? extends F>> mapper) {
-        return lazily(this.isNotSupplied, () -> this.getSupplied().flatMapSuccess(mapper));
+        final Result<S, F> supplied = this.eager();
+        if (supplied != null) {
+            return supplied.flatMapSuccess(mapper);
+        }
+        return this.lazily(
+                true,
+                new LazyOperation<S, F, S2, F>(this) {
+                    @Override
+                    Result<S2, F> apply(Result<S, F> result) {
+                        return result.flatMapSuccess(mapper);
+                    }
+                });
     }
 
     @Override
     public <F2> Result<S, F2> flatMapFailure(
             Function<? super F, ? extends Result<? extends S, ? extends F2>> mapper) {
-        return lazily(this.isNotSupplied, () -> this.getSupplied().flatMapFailure(mapper));
+        final Result<S, F> supplied = this.eager();
+        if (supplied != null) {
+            return supplied.flatMapFailure(mapper);
+        }
+        return this.lazily(
+                true,
+                new LazyOperation<S, F, S, F2>(this) {
+                    @Override
+                    Result<S, F2> apply(Result<S, F> result) {
+                        return result.flatMapFailure(mapper);
+                    }
+                });
     }
 
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
         if (!(obj instanceof LazyResult)) return false;
-        return this.supplier.equals(((LazyResult<?, ?>) obj).supplier);
+        final Supplier<Result<S, F>> current = this.supplier;
+        return current != null && current.equals(((LazyResult<?, ?>) obj).supplier);
     }
 
     @Override
     public int hashCode() {
-        return this.supplier.hashCode();
+        final Supplier<Result<S, F>> current = this.supplier;
+        if (current == null || current instanceof LazyOperation) {
+            // Deferred operations are released once evaluated
+            return System.identityHashCode(this);
+        }
+        return current.hashCode();
     }
 
     @Override
     public String toString() {
-        if (this.isNotSupplied) {
+        final Object current = LazyResultState.get(this);
+        if (!(current instanceof Result)) {
             return "LazyResult[Not supplied]";
         }
-        return new StringBuilder("LazyResult[").append(this.supplied.get()).append("]").toString();
+        return new StringBuilder("LazyResult[").append(current).append("]").toString();
     }
 
+    @SuppressWarnings("unchecked")
     Result<S, F> getSupplied() {
-        if (this.isNotSupplied) {
-            synchronized (this) {
-                // Double-checked locking, functional style
-                Optional.of(this.isNotSupplied).filter(Boolean::booleanValue).ifPresent(this::supply);
+        final Object current = this.resolve();
+        if (current instanceof Broken) {
+            throw ((Broken) current).exception();
+        }
+        return (Result<S, F>) current;
+    }
+
+    boolean isSupplied() {
+        final Object current = LazyResultState.get(this);
+        return modeOf(current) == null && !(current instanceof Waiter);
+    }
+
+    void prefetch(Executor executor) {
+        if (modeOf(LazyResultState.get(this)) != null) {
+            // Don't wait for the result if another thread is already evaluating it
+            executor.execute(() -> this.supply());
+        }
+    }
+
+    private Result<?, ?> observing(int aspects) {
+        // Skip the unevaluated operations whose output can't be observed through the given aspects
+        LazyResult<?, ?> node = this;
+        while (!node.isSupplied()) {
+            final Object operation = node.supplier;
+            if (!(operation instanceof LazyOperation)
+                    || !((LazyOperation<?, ?, ?, ?>) operation).preserves(aspects)) {
+                break;
             }
+            node = ((LazyOperation<?, ?, ?, ?>) operation).upstream;
         }
-        final Result<S, F> result = this.supplied.get();
-        if (result == null) {
-            throw new NoSuchElementException("The supplied result was null");
+        return node.getSupplied();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Result<S, F> eager() {
+        // Operations on published results are applied right away, without allocating deferred operations
+        final Object current = LazyResultState.get(this);
+        if (!(current instanceof Result)) {
+            return null;
+        }
+        final LazyResultListener listener = LazyResultListeners.current;
+        if (listener != null) {
+            listener.onEagerOperation(this);
         }
-        return result;
+        return (Result<S, F>) current;
     }
 
-    private void supply(Boolean ignore) {
-        this.isNotSupplied = false;
-        this.supplied.set(this.supplier.get());
+    @SuppressWarnings("unchecked")
+    Result<S, F> supplied() {
+        // Published results are never lazy, so they can be used right away
+        final Object current = LazyResultState.get(this);
+        return current instanceof Result ? (Result<S, F>) current : null;
     }
 
-    private static <S2, F2> Result<S2, F2> lazily(boolean lazily, Supplier<Result<S2, F2>> supplier) {
-        return lazily ? new LazyResult<>(supplier) : supplier.get();
+    private Object resolve() {
+        Object current = LazyResultState.get(this);
+        while (modeOf(current) != null || current instanceof Waiter) {
+            current = current instanceof Waiter ? this.await((Waiter) current) : this.supply();
+        }
+        return current;
+    }
+
+    private Object supply() {
+        final Thread current = Thread.currentThread();
+        final Waiter owner = new Waiter(current, current);
+        final Deque<Object> pending = new ArrayDeque<>();
+        if (!claim(this, owner, pending)) {
+            return LazyResultState.get(this);
+        }
+        final LazyResultListener listener = LazyResultListeners.current;
+        final int depth = pending.size();
+        final Object event;
+        try {
+            event = LazyResultEvents.beginEvaluation();
+            if (listener != null) {
+                listener.onEvaluationStart(this, depth);
+            }
+        } catch (RuntimeException | Error e) {
+            // Don't leave the claimed nodes behind, or the threads waiting for them would never wake up
+            abandonAll(pending, new Broken(e));
+            throw e;
+        }
+        if (listener == null && event == null) {
+            return this.run(owner, pending);
+        }
+        return this.observe(listener, event, depth, owner, pending);
+    }
+
+    private Object observe(
+            LazyResultListener listener, Object event, int depth, Waiter owner, Deque<Object> pending) {
+        final long start = System.nanoTime();
+        final Object supplied;
+        try {
+            supplied = this.run(owner, pending);
+        } catch (RuntimeException | Error e) {
+            LazyResultEvents.endEvaluation(event, depth, true);
+            if (listener != null) {
+                listener.onEvaluationFailure(this, e, System.nanoTime() - start);
+            }
+            throw e;
+        }
+        LazyResultEvents.endEvaluation(event, depth, false);
+        if (listener != null) {
+            listener.onEvaluationEnd(this, System.nanoTime() - start);
+        }
+        return supplied;
+    }
+
+    private Object run(Waiter owner, Deque<Object> pending) {
+        // Apply all the deferred operations iteratively, publishing every intermediate result
+        Object supplied = null;
+        Broken broken = BROKEN;
+        try {
+            while (!pending.isEmpty()) {
+                if (pending.peek() == FORWARD) {
+                    pending.pop();
+                    supplied = ((LazyResult<?, ?>) pending.pop()).publish(supplied);
+                    continue;
+                }
+                final LazyResult<?, ?> node = (LazyResult<?, ?>) pending.peek();
+                supplied = node.evaluate(supplied);
+                if (!(supplied instanceof LazyResult)) {
+                    pending.pop();
+                    supplied = node.publish(supplied);
+                    continue;
+                }
+                // The node evaluated to another lazy result, which must be evaluated before publishing the node
+                final LazyResult<?, ?> nested = (LazyResult<?, ?>) supplied;
+                pending.push(FORWARD);
+                supplied = claim(nested, owner, pending) ? null : nested.resolve();
+            }
+        } catch (RuntimeException | Error e) {
+            // Keep the exception, so that broken nodes can relay it as the cause
+            broken = new Broken(e);
+            throw e;
+        } finally {
+            abandonAll(pending, broken);
+        }
+        return supplied;
+    }
+
+    private static <T> Spliterator<T> spliterator(Optional<T> value) {
+        // Report the same characteristics, whether or not the value is present
+        final Object[] values = value.isPresent() ? new Object[] {value.get()} : new Object[0];
+        return Spliterators.spliterator(values, CHARACTERISTICS);
+    }
+
+    private static void abandonAll(Deque<Object> pending, Broken broken) {
+        while (!pending.isEmpty()) {
+            final Object node = pending.pop();
+            if (node != FORWARD) {
+                ((LazyResult<?, ?>) node).abandon(broken);
+            }
+        }
+    }
+
+    private static boolean claim(LazyResult<?, ?> node, Waiter owner, Deque<Object> pending) {
+        if (!node.tryClaim(owner)) {
+            return false;
+        }
+        // Claim every consecutive upstream node that has not been supplied yet
+        pending.push(node);
+        for (LazyResult<?, ?> upstream = node.upstream();
+                upstream != null && upstream.tryClaim(owner);
+                upstream = upstream.upstream()) {
+            pending.push(upstream);
+        }
+        return true;
+    }
+
+    private boolean tryClaim(Waiter owner) {
+        final Object current = LazyResultState.get(this);
+        final LazyThreadSafetyMode mode = modeOf(current);
+        if (mode == SYNCHRONIZED) {
+            if (LazyResultState.compareAndSet(this, current, owner)) {
+                evaluated(current);
+                return true;
+            }
+            return false;
+        }
+        // Other modes don't need exclusive access to evaluate the node
+        return mode != null;
+    }
+
+    private LazyResult<?, ?> upstream() {
+        final Object operation = this.supplier;
+        return operation instanceof LazyOperation ? ((LazyOperation<?, ?, ?, ?>) operation).upstream : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object evaluate(Object upstream) {
+        final Supplier<Result<S, F>> current = this.supplier;
+        final Result<?, ?> result;
+        if (current == null) {
+            // Another thread has already published this node
+            return this.published();
+        } else if (current instanceof LazyOperation) {
+            final LazyOperation<Object, Object, S, F> operation = (LazyOperation<Object, Object, S, F>) current;
+            final Object input = upstream != null ? upstream : operation.upstream.resolve();
+            if (input instanceof Broken) {
+                return input;
+            }
+            result = operation.apply((Result<Object, Object>) input);
+        } else {
+            result = current.get();
+        }
+        return result != null ? result : BROKEN;
+    }
+
+    private Object published() {
+        Object current;
+        while (modeOf(current = LazyResultState.get(this)) != null) {
+            LazyResultState.onSpinWait();
+        }
+        return current;
+    }
+
+    private Object publish(Object supplied) {
+        final Object current = LazyResultState.get(this);
+        final LazyThreadSafetyMode mode = modeOf(current);
+        Object published = supplied;
+        if (current instanceof Waiter) {
+            wakeUp((Waiter) LazyResultState.getAndSet(this, supplied));
+        } else if (mode == PUBLICATION) {
+            if (LazyResultState.compareAndSet(this, current, supplied)) {
+                evaluated(current);
+            } else {
+                // Another thread published its own result first
+                published = LazyResultState.get(this);
+            }
+        } else if (mode == NONE) {
+            LazyResultState.setRelease(this, supplied);
+            evaluated(current);
+        } else {
+            published = current;
+        }
+        if (this.supplier instanceof LazyOperation) {
+            // Release the deferred operation, along with the upstream nodes it retains
+            this.supplier = null;
+        }
+        return published;
+    }
+
+    private void abandon(Broken broken) {
+        // Synchronized evaluations can't be retried, but other modes allow it
+        final Object current = LazyResultState.get(this);
+        if (current instanceof Waiter) {
+            wakeUp((Waiter) LazyResultState.getAndSet(this, broken));
+        }
+    }
+
+    private static void wakeUp(Waiter waiters) {
+        // Wake up every thread that was waiting for the supplied result
+        final Thread owner = Thread.currentThread();
+        for (Waiter w = waiters; w != null; w = w.next) {
+            if (w.thread != owner) {
+                LockSupport.unpark(w.thread);
+            }
+        }
+    }
+
+    private Object await(Waiter head) {
+        final Thread current = Thread.currentThread();
+        if (head.owner == current) {
+            // The supplier is trying to evaluate its own lazy result
+            return BROKEN;
+        }
+        Object observed = head;
+        for (int spins = LazyResultState.spins(); spins > 0 && observed instanceof Waiter; spins--) {
+            // Spin briefly before parking, in case the result is about to be published
+            LazyResultState.onSpinWait();
+            observed = LazyResultState.get(this);
+        }
+        final Waiter node = new Waiter(current, head.owner);
+        while (true) {
+            if (!(observed instanceof Waiter)) {
+                return observed;
+            }
+            node.next = (Waiter) observed;
+            if (LazyResultState.compareAndSet(this, observed, node)) {
+                break;
+            }
+            observed = LazyResultState.get(this);
+        }
+        final Object event = LazyResultEvents.beginWait();
+        boolean interrupted = false;
+        while ((observed = LazyResultState.get(this)) instanceof Waiter) {
+            LockSupport.park(this);
+            interrupted |= Thread.interrupted();
+        }
+        LazyResultEvents.endWait(event, head.owner);
+        if (interrupted) {
+            current.interrupt();
+        }
+        return observed;
+    }
+
+    private <S2, F2> Result<S2, F2> lazily(boolean deferrable, LazyOperation<S, F, S2, F2> operation) {
+        final Object current = LazyResultState.get(this);
+        final LazyThreadSafetyMode mode = modeOf(current);
+        final LazyResult<S2, F2> deferred;
+        if (deferrable && mode != null) {
+            deferred = new LazyResult<>(operation, mode);
+        } else if (deferrable && current instanceof Waiter) {
+            deferred = new LazyResult<>(operation, SYNCHRONIZED);
+        } else {
+            final LazyResultListener listener = LazyResultListeners.current;
+            if (listener != null) {
+                listener.onEagerOperation(this);
+            }
+            return operation.apply(this.getSupplied());
+        }
+        final LazyResultListener listener = LazyResultListeners.current;
+        if (listener != null) {
+            listener.onDeferredOperation(this, deferred);
+        }
+        return deferred;
+    }
+
+    private static LazyThreadSafetyMode modeOf(Object state) {
+        // Lazy results created while metrics are enabled start with a tracker instead of their mode
+        if (state instanceof LazyThreadSafetyMode) {
+            return (LazyThreadSafetyMode) state;
+        }
+        return state instanceof LazyResultMetrics.Tracker ? ((LazyResultMetrics.Tracker) state).mode : null;
+    }
+
+    private static void evaluated(Object state) {
+        if (state instanceof LazyResultMetrics.Tracker) {
+            ((LazyResultMetrics.Tracker) state).evaluated();
+        }
+    }
+
+    /** Node of the stack of threads waiting for the supplied result; the bottom one is invoking the supplier. */
+    private static final class Waiter {
+
+        final Thread thread;
+        final Thread owner;
+        Waiter next;
+
+        Waiter(Thread thread, Thread owner) {
+            this.thread = thread;
+            this.owner = owner;
+        }
+    }
+
+    /** State of a lazy result that could not be supplied, along with the exception thrown while supplying it. */
+    private static final class Broken {
+
+        private final NoSuchElementException exception;
+
+        Broken(Throwable cause) {
+            this.exception = cause == null
+                    ? new UnsuppliedException("The supplied result was null", null)
+                    : new UnsuppliedException("The result could not be supplied", cause);
+        }
+
+        NoSuchElementException exception() {
+            // Built once, since it is thrown every time the lazy result is queried
+            return this.exception;
+        }
+    }
+
+    /** Exception thrown when a broken lazy result is queried; the cause, if any, records where it actually broke. */
+    private static final class UnsuppliedException extends NoSuchElementException {
+
+        private static final long serialVersionUID = 1L;
+
+        UnsuppliedException(String message, Throwable cause) {
+            super(message);
+            if (cause != null) {
+                this.initCause(cause);
+            }
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            // Shared by all the queries, so a stack trace would only point to the first one
+            return this;
+        }
     }
 }
@@ -0,0 +1,370 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Bounded cache of lazy results, created on demand for each key.
+ * <p>
+ * Lazy results are created the first time their key is requested, and then returned every time the same key is
+ * requested again, until they are evicted. The actual results are supplied by the loader function when/if the lazy
+ * results need to be evaluated; each key is evaluated at most once, even if many threads need it at the same time. If
+ * the loader throws an exception, the lazy result is discarded so that the key can be loaded again later.
+ * <p>
+ * The cache evicts entries when their total weight exceeds the maximum. By default, each entry weighs one, so that the
+ * maximum weight is the maximum number of entries. Entries are evicted using a frequency-aware policy: they are
+ * visited in insertion order, and entries that have been requested since they were last visited are given another
+ * chance, as many times as they have been requested (up to a limit). This way, entries requested often survive longer
+ * than entries requested only once, but they eventually age out if they stop being requested.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @param <K> the type of the keys
+ * @param <S> the success type of the results
+ * @param <F> the failure type of the results
+ */
+public final class LazyResultCache<K, S, F> {
+
+    private static final int MAX_FREQUENCY = 15;
+
+    private final ConcurrentHashMap<K, Entry<K, S, F>> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry<K, S, F>> clock = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock evicting = new ReentrantLock();
+    private final AtomicLong weight = new AtomicLong();
+    private final AtomicLong discarded = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final Function<? super K, ? extends Result<S, F>> loader;
+    private final ToLongFunction<? super K> weigher;
+    private final long maximumWeight;
+
+    private LazyResultCache(
+            Function<? super K, ? extends Result<S, F>> loader, ToLongFunction<? super K> weigher, long maximumWeight) {
+        this.loader = loader;
+        this.weigher = weigher;
+        this.maximumWeight = maximumWeight;
+    }
+
+    /**
+     * Creates a new cache that holds up to a maximum number of lazy results.
+     *
+     * @param <K> the type of the keys
+     * @param <S> the success type of the results
+     * @param <F> the failure type of the results
+     * @param loader the function that supplies the actual result for a key
+     * @param maximumSize the maximum number of lazy results the cache may hold
+     * @return the new cache
+     * @throws NullPointerException if {@code loader} is {@code null}
+     * @throws IllegalArgumentException if {@code maximumSize} is negative
+     */
+    public static <K, S, F> LazyResultCache<K, S, F> ofMaximumSize(
+            Function<? super K, ? extends Result<S, F>> loader, long maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("maximumSize must not be negative: " + maximumSize);
+        }
+        return ofMaximumWeight(loader, key -> 1, maximumSize);
+    }
+
+    /**
+     * Creates a new cache that holds lazy results up to a maximum total weight.
+     * <p>
+     * The weight of each entry is determined when it is created, before its lazy result is evaluated.
+     *
+     * @param <K> the type of the keys
+     * @param <S> the success type of the results
+     * @param <F> the failure type of the results
+     * @param loader the function that supplies the actual result for a key
+     * @param weigher the function that determines the weight of the entry for a key
+     * @param maximumWeight the maximum total weight of the lazy results the cache may hold
+     * @return the new cache
+     * @throws NullPointerException if {@code loader} or {@code weigher} is {@code null}
+     * @throws IllegalArgumentException if {@code maximumWeight} is negative
+     */
+    public static <K, S, F> LazyResultCache<K, S, F> ofMaximumWeight(
+            Function<? super K, ? extends Result<S, F>> loader, ToLongFunction<? super K> weigher, long maximumWeight) {
+        requireNonNull(loader, "loader");
+        requireNonNull(weigher, "weigher");
+        if (maximumWeight < 0) {
+            throw new IllegalArgumentException("maximumWeight must not be negative: " + maximumWeight);
+        }
+        return new LazyResultCache<>(loader, weigher, maximumWeight);
+    }
+
+    /**
+     * Returns the lazy result for the given key, creating it if necessary.
+     *
+     * @param key the key whose lazy result is to be returned
+     * @return the lazy result for {@code key}
+     * @throws NullPointerException if {@code key} is {@code null}
+     * @throws IllegalArgumentException if the weight of the entry for {@code key} is negative
+     */
+    public Result<S, F> get(K key) {
+        requireNonNull(key, "key");
+        Entry<K, S, F> entry = this.entries.get(key);
+        if (entry != null) {
+            this.hits.increment();
+            entry.touch();
+            return entry.result;
+        }
+        final Entry<K, S, F> created = new Entry<>(this, key);
+        entry = this.entries.putIfAbsent(key, created);
+        if (entry != null) {
+            this.hits.increment();
+            entry.touch();
+            return entry.result;
+        }
+        this.misses.increment();
+        this.clock.add(created);
+        if (this.weight.addAndGet(created.weight) > this.maximumWeight) {
+            this.evict();
+        }
+        return created.result;
+    }
+
+    /**
+     * Discards the lazy result for the given key, if present.
+     *
+     * @param key the key whose lazy result is to be discarded
+     * @throws NullPointerException if {@code key} is {@code null}
+     */
+    public void invalidate(K key) {
+        requireNonNull(key, "key");
+        final Entry<K, S, F> entry = this.entries.get(key);
+        if (entry != null) {
+            this.discard(entry);
+        }
+    }
+
+    /** Discards all the lazy results in this cache. */
+    public void invalidateAll() {
+        for (Entry<K, S, F> entry; (entry = this.clock.poll()) != null; ) {
+            if (!this.remove(entry) && entry.removed) {
+                this.discarded.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of lazy results in this cache.
+     *
+     * @return the number of lazy results in this cache
+     */
+    public long size() {
+        return this.entries.mappingCount();
+    }
+
+    /**
+     * Returns a snapshot of the statistics of this cache.
+     *
+     * @return the current statistics of this cache
+     */
+    public Stats stats() {
+        return new Stats(this.hits.sum(), this.misses.sum(), this.evictions.sum());
+    }
+
+    private void discard(Entry<K, S, F> entry) {
+        // Leave the entry in the clock to be skipped later, instead of searching the whole clock for it
+        if (this.remove(entry) && this.discarded.incrementAndGet() > this.entries.mappingCount()) {
+            this.purge();
+        }
+    }
+
+    private boolean remove(Entry<K, S, F> entry) {
+        if (!this.entries.remove(entry.key, entry)) {
+            return false;
+        }
+        entry.removed = true;
+        this.weight.addAndGet(-entry.weight);
+        return true;
+    }
+
+    private void purge() {
+        // Sweep the discarded entries once they outnumber the cached ones, so the clock doesn't keep growing
+        if (!this.evicting.tryLock()) {
+            return;
+        }
+        try {
+            for (Iterator<Entry<K, S, F>> iterator = this.clock.iterator(); iterator.hasNext(); ) {
+                if (iterator.next().removed) {
+                    iterator.remove();
+                    this.discarded.decrementAndGet();
+                }
+            }
+        } finally {
+            this.evicting.unlock();
+        }
+    }
+
+    private void evict() {
+        this.evicting.lock();
+        try {
+            while (this.weight.get() > this.maximumWeight) {
+                final Entry<K, S, F> entry = this.clock.poll();
+                if (entry == null) {
+                    break;
+                } else if (entry.removed) {
+                    // The entry was already discarded
+                    this.discarded.decrementAndGet();
+                } else if (entry.age()) {
+                    // The entry was requested since it was last visited, so it gets another chance
+                    this.clock.add(entry);
+                } else if (this.remove(entry)) {
+                    this.evictions.increment();
+                }
+            }
+        } finally {
+            this.evicting.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder("LazyResultCache[")
+                .append(this.size())
+                .append(" entries, ")
+                .append(this.stats())
+                .append("]")
+                .toString();
+    }
+
+    /** Cache entry, holding the lazy result for a key. */
+    private static final class Entry<K, S, F> {
+
+        final K key;
+        final long weight;
+        final LazyResult<S, F> result;
+        final AtomicInteger frequency = new AtomicInteger();
+        volatile boolean removed;
+
+        Entry(LazyResultCache<K, S, F> cache, K key) {
+            this.key = key;
+            this.weight = cache.weigher.applyAsLong(key);
+            if (this.weight < 0) {
+                throw new IllegalArgumentException("Weight must not be negative: " + this.weight);
+            }
+            this.result = new LazyResult<>(() -> {
+                try {
+                    return cache.loader.apply(key);
+                } catch (RuntimeException | Error e) {
+                    // Let the key be loaded again later
+                    cache.discard(this);
+                    throw e;
+                }
+            });
+        }
+
+        void touch() {
+            int current;
+            while ((current = this.frequency.get()) < MAX_FREQUENCY) {
+                if (this.frequency.compareAndSet(current, current + 1)) {
+                    break;
+                }
+            }
+        }
+
+        boolean age() {
+            int current;
+            while ((current = this.frequency.get()) > 0) {
+                if (this.frequency.compareAndSet(current, current - 1)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Statistics of a {@link LazyResultCache}.
+     *
+     * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+     */
+    public static final class Stats {
+
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+
+        Stats(long hitCount, long missCount, long evictionCount) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+        }
+
+        /**
+         * Returns the number of times a requested key was found in the cache.
+         *
+         * @return the number of cache hits
+         */
+        public long hitCount() {
+            return this.hitCount;
+        }
+
+        /**
+         * Returns the number of times a requested key was not found in the cache, so a new lazy result was created.
+         *
+         * @return the number of cache misses
+         */
+        public long missCount() {
+            return this.missCount;
+        }
+
+        /**
+         * Returns the number of lazy results evicted to keep the cache within its maximum weight.
+         *
+         * @return the number of evictions
+         */
+        public long evictionCount() {
+            return this.evictionCount;
+        }
+
+        /**
+         * Returns the ratio of requests that were cache hits, or {@code 1.0} if there were no requests.
+         *
+         * @return the cache hit rate
+         */
+        public double hitRate() {
+            final long requests = this.hitCount + this.missCount;
+            return requests == 0 ? 1.0 : (double) this.hitCount / requests;
+        }
+
+        @Override
+        public String toString() {
+            return new StringBuilder("Stats[hits=")
+                    .append(this.hitCount)
+                    .append(", misses=")
+                    .append(this.missCount)
+                    .append(", evictions=")
+                    .append(this.evictionCount)
+                    .append("]")
+                    .toString();
+        }
+    }
+}
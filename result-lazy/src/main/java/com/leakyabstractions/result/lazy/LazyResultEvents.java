@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+/**
+ * Emits Java Flight Recorder events for {@link LazyResult} instances.
+ * <p>
+ * This is the Java 8 implementation, which doesn't emit any events at all. Methods that begin an event always return
+ * {@code null}, so that lazy results can skip the whole instrumentation with a single branch.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+final class LazyResultEvents {
+
+    static final boolean SUPPORTED = false;
+
+    private LazyResultEvents() {
+        /** Suppresses default constructor, ensuring non-instantiability */
+    }
+
+    static Object beginEvaluation() {
+        return null;
+    }
+
+    static void endEvaluation(Object event, int depth, boolean failed) {
+        // Nothing to do
+    }
+
+    static Object beginWait() {
+        return null;
+    }
+
+    static void endWait(Object event, Thread owner) {
+        // Nothing to do
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Supplier;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Receives notifications about the lifecycle of lazy results.
+ * <p>
+ * Listeners can be used to instrument lazy results: how many of them are created, how many operations are deferred or
+ * applied eagerly, how long evaluations take, or how deep chains of deferred operations get. All methods have empty
+ * default implementations, so that listeners only need to override the ones they are interested in.
+ * <p>
+ * Listeners are {@linkplain #register(LazyResultListener) registered} globally. When no listener is registered, lazy
+ * results don't compute anything on their behalf, so instrumentation has no cost unless it's actually used.
+ *
+ * @apiNote Listeners are invoked synchronously by the threads creating or evaluating lazy results, so they should
+ *     return quickly. Exceptions thrown by listeners are ignored, so that they can't interfere with evaluations.
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @see LazyResultListener#register(LazyResultListener) Registering listeners
+ */
+public interface LazyResultListener {
+
+    /**
+     * Invoked when a new lazy result is created, either by a {@linkplain LazyResults#ofSupplier(Supplier) factory
+     * method} or by a deferred operation.
+     *
+     * @param result the new lazy result
+     */
+    default void onCreate(Result<?, ?> result) {
+        // Do nothing by default
+    }
+
+    /**
+     * Invoked when an operation on a lazy result is deferred, creating a new lazy result.
+     *
+     * @param upstream the lazy result the operation was invoked on
+     * @param deferred the new lazy result that will apply the operation
+     */
+    default void onDeferredOperation(Result<?, ?> upstream, Result<?, ?> deferred) {
+        // Do nothing by default
+    }
+
+    /**
+     * Invoked when an operation on a lazy result cannot be deferred, so it is applied eagerly.
+     *
+     * @param upstream the lazy result the operation was invoked on
+     */
+    default void onEagerOperation(Result<?, ?> upstream) {
+        // Do nothing by default
+    }
+
+    /**
+     * Invoked when a thread starts evaluating a lazy result.
+     *
+     * @param result the lazy result being evaluated
+     * @param depth the number of lazy results in the chain being evaluated, including {@code result}
+     */
+    default void onEvaluationStart(Result<?, ?> result, int depth) {
+        // Do nothing by default
+    }
+
+    /**
+     * Invoked when a thread finishes evaluating a lazy result.
+     *
+     * @param result the lazy result that was evaluated
+     * @param nanos the time elapsed evaluating the lazy result, in nanoseconds
+     */
+    default void onEvaluationEnd(Result<?, ?> result, long nanos) {
+        // Do nothing by default
+    }
+
+    /**
+     * Invoked when the evaluation of a lazy result fails because a supplier or an operation threw an exception.
+     *
+     * @param result the lazy result that could not be evaluated
+     * @param failure the exception thrown during the evaluation
+     * @param nanos the time elapsed evaluating the lazy result, in nanoseconds
+     */
+    default void onEvaluationFailure(Result<?, ?> result, Throwable failure, long nanos) {
+        // Do nothing by default
+    }
+
+    /**
+     * Registers a listener, so that it will be notified about every lazy result.
+     * <p>
+     * Registering a listener that is already registered has no effect.
+     *
+     * @param listener the listener to register
+     * @throws NullPointerException if {@code listener} is {@code null}
+     */
+    static void register(LazyResultListener listener) {
+        requireNonNull(listener, "listener");
+        LazyResultListeners.add(listener);
+    }
+
+    /**
+     * Unregisters a listener, so that it will no longer be notified.
+     * <p>
+     * Unregistering a listener that is not registered has no effect.
+     *
+     * @param listener the listener to unregister
+     * @throws NullPointerException if {@code listener} is {@code null}
+     */
+    static void unregister(LazyResultListener listener) {
+        requireNonNull(listener, "listener");
+        LazyResultListeners.remove(listener);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import java.util.Arrays;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Holds the registered {@link LazyResultListener listeners}.
+ * <p>
+ * Lazy results read the {@link #current} listener once per notification point and skip everything else when it is
+ * {@code null}. When any listeners are registered, they are combined into a single instance that notifies each one of
+ * them in registration order, ignoring their exceptions.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+final class LazyResultListeners implements LazyResultListener {
+
+    static volatile LazyResultListener current;
+
+    private static final Object LOCK = new Object();
+    private static LazyResultListener[] registered = new LazyResultListener[0];
+
+    private final LazyResultListener[] listeners;
+
+    private LazyResultListeners(LazyResultListener[] listeners) {
+        this.listeners = listeners;
+    }
+
+    static void add(LazyResultListener listener) {
+        synchronized (LOCK) {
+            if (!Arrays.asList(registered).contains(listener)) {
+                final LazyResultListener[] updated = Arrays.copyOf(registered, registered.length + 1);
+                updated[registered.length] = listener;
+                update(updated);
+            }
+        }
+    }
+
+    static void remove(LazyResultListener listener) {
+        synchronized (LOCK) {
+            update(Arrays.stream(registered).filter(x -> !x.equals(listener)).toArray(LazyResultListener[]::new));
+        }
+    }
+
+    private static void update(LazyResultListener[] listeners) {
+        registered = listeners;
+        current = listeners.length == 0 ? null : new LazyResultListeners(listeners);
+    }
+
+    @Override
+    public void onCreate(Result<?, ?> result) {
+        for (LazyResultListener listener : this.listeners) {
+            try {
+                listener.onCreate(result);
+            } catch (RuntimeException e) {
+                // Ignore it
+            }
+        }
+    }
+
+    @Override
+    public void onDeferredOperation(Result<?, ?> upstream, Result<?, ?> deferred) {
+        for (LazyResultListener listener : this.listeners) {
+            try {
+                listener.onDeferredOperation(upstream, deferred);
+            } catch (RuntimeException e) {
+                // Ignore it
+            }
+        }
+    }
+
+    @Override
+    public void onEagerOperation(Result<?, ?> upstream) {
+        for (LazyResultListener listener : this.listeners) {
+            try {
+                listener.onEagerOperation(upstream);
+            } catch (RuntimeException e) {
+                // Ignore it
+            }
+        }
+    }
+
+    @Override
+    public void onEvaluationStart(Result<?, ?> result, int depth) {
+        for (LazyResultListener listener : this.listeners) {
+            try {
+                listener.onEvaluationStart(result, depth);
+            } catch (RuntimeException e) {
+                // Ignore it
+            }
+        }
+    }
+
+    @Override
+    public void onEvaluationEnd(Result<?, ?> result, long nanos) {
+        for (LazyResultListener listener : this.listeners) {
+            try {
+                listener.onEvaluationEnd(result, nanos);
+            } catch (RuntimeException e) {
+                // Ignore it
+            }
+        }
+    }
+
+    @Override
+    public void onEvaluationFailure(Result<?, ?> result, Throwable failure, long nanos) {
+        for (LazyResultListener listener : this.listeners) {
+            try {
+                listener.onEvaluationFailure(result, failure, nanos);
+            } catch (RuntimeException e) {
+                // Ignore it
+            }
+        }
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Measures how much work lazy results actually save.
+ * <p>
+ * Once {@linkplain #enable() enabled}, metrics count how many lazy results are created, how many of them are
+ * evaluated, and how many are garbage-collected without ever being evaluated. They also count how many operations are
+ * deferred and how many of them are applied eagerly, either because the lazy result was already evaluated or because
+ * the operation could not be deferred.
+ * <p>
+ * Metrics are disabled by default, and lazy results don't pay for them until they are enabled. Counters are striped,
+ * so that threads creating and evaluating lazy results don't contend with each other. Lazy results collected without
+ * being evaluated are detected via phantom references, which are processed every time a lazy result is created and
+ * when a {@link #snapshot() snapshot} is taken.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @see LazyResultListener
+ */
+public final class LazyResultMetrics {
+
+    private static final Recorder RECORDER = new Recorder();
+
+    private LazyResultMetrics() {
+        /** Suppresses default constructor, ensuring non-instantiability */
+    }
+
+    /**
+     * Starts collecting metrics about lazy results.
+     * <p>
+     * Only lazy results created after metrics are enabled are taken into account. Enabling metrics that are already
+     * enabled has no effect.
+     */
+    public static void enable() {
+        LazyResultListener.register(RECORDER);
+    }
+
+    /**
+     * Stops collecting metrics about lazy results.
+     * <p>
+     * Lazy results created while metrics were enabled are still tracked until they are evaluated or collected. The
+     * counters are not reset.
+     */
+    public static void disable() {
+        LazyResultListener.unregister(RECORDER);
+    }
+
+    /**
+     * Returns the current value of every counter.
+     *
+     * @return a snapshot of the metrics collected so far
+     */
+    public static Snapshot snapshot() {
+        RECORDER.expunge();
+        return new Snapshot(
+                RECORDER.created.sum(),
+                RECORDER.evaluated.sum(),
+                RECORDER.collected.sum(),
+                RECORDER.deferred.sum(),
+                RECORDER.eager.sum());
+    }
+
+    /** Listener that counts lazy results and tracks the ones that have not been evaluated yet. */
+    private static final class Recorder implements LazyResultListener {
+
+        final LongAdder created = new LongAdder();
+        final LongAdder evaluated = new LongAdder();
+        final LongAdder collected = new LongAdder();
+        final LongAdder deferred = new LongAdder();
+        final LongAdder eager = new LongAdder();
+        final Set<Tracker> pending = ConcurrentHashMap.newKeySet();
+        final ReferenceQueue<LazyResult<?, ?>> queue = new ReferenceQueue<>();
+
+        @Override
+        public void onCreate(Result<?, ?> result) {
+            this.created.increment();
+            this.expunge();
+            if (result instanceof LazyResult) {
+                this.track((LazyResult<?, ?>) result);
+            }
+        }
+
+        @Override
+        public void onDeferredOperation(Result<?, ?> upstream, Result<?, ?> deferred) {
+            this.deferred.increment();
+        }
+
+        @Override
+        public void onEagerOperation(Result<?, ?> upstream) {
+            this.eager.increment();
+        }
+
+        private void track(LazyResult<?, ?> lazy) {
+            final Object state = LazyResultState.get(lazy);
+            if (!(state instanceof LazyThreadSafetyMode)) {
+                return;
+            }
+            final Tracker tracker = new Tracker(lazy, (LazyThreadSafetyMode) state, this);
+            // Hold the tracker before it can be evaluated, so that it can't be tracked after being evaluated
+            this.pending.add(tracker);
+            if (!LazyResultState.compareAndSet(lazy, state, tracker)) {
+                this.pending.remove(tracker);
+            }
+        }
+
+        void expunge() {
+            for (Reference<?> ref; (ref = this.queue.poll()) != null; ) {
+                if (this.pending.remove(ref)) {
+                    this.collected.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * Initial state of lazy results created while metrics are enabled.
+     * <p>
+     * Trackers hold the thread-safety mode of their lazy results, so that they can be used in place of it. Lazy results
+     * notify their trackers when they leave the initial state; trackers that are still pending when their lazy results
+     * are collected count as never evaluated.
+     */
+    static final class Tracker extends PhantomReference<LazyResult<?, ?>> {
+
+        final LazyThreadSafetyMode mode;
+        private final Recorder recorder;
+
+        Tracker(LazyResult<?, ?> lazy, LazyThreadSafetyMode mode, Recorder recorder) {
+            super(lazy, recorder.queue);
+            this.mode = mode;
+            this.recorder = recorder;
+        }
+
+        void evaluated() {
+            if (this.recorder.pending.remove(this)) {
+                this.recorder.evaluated.increment();
+            }
+            this.clear();
+        }
+    }
+
+    /**
+     * Values of the lazy result metrics at a given moment.
+     *
+     * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+     */
+    public static final class Snapshot {
+
+        private final long created;
+        private final long evaluated;
+        private final long neverEvaluated;
+        private final long deferredOperations;
+        private final long eagerOperations;
+
+        Snapshot(long created, long evaluated, long neverEvaluated, long deferredOperations, long eagerOperations) {
+            this.created = created;
+            this.evaluated = evaluated;
+            this.neverEvaluated = neverEvaluated;
+            this.deferredOperations = deferredOperations;
+            this.eagerOperations = eagerOperations;
+        }
+
+        /**
+         * Returns the number of lazy results created, including the ones created by deferred operations.
+         *
+         * @return the number of lazy results created
+         */
+        public long created() {
+            return this.created;
+        }
+
+        /**
+         * Returns the number of lazy results that started being evaluated.
+         *
+         * @return the number of lazy results evaluated
+         */
+        public long evaluated() {
+            return this.evaluated;
+        }
+
+        /**
+         * Returns the number of lazy results that were garbage-collected without ever being evaluated.
+         *
+         * @return the number of lazy results never evaluated
+         */
+        public long neverEvaluated() {
+            return this.neverEvaluated;
+        }
+
+        /**
+         * Returns the number of operations on lazy results that were deferred.
+         *
+         * @return the number of deferred operations
+         */
+        public long deferredOperations() {
+            return this.deferredOperations;
+        }
+
+        /**
+         * Returns the number of operations on lazy results that were applied eagerly.
+         *
+         * @return the number of eager operations
+         */
+        public long eagerOperations() {
+            return this.eagerOperations;
+        }
+
+        @Override
+        public String toString() {
+            return new StringBuilder("Snapshot[created=")
+                    .append(this.created)
+                    .append(", evaluated=")
+                    .append(this.evaluated)
+                    .append(", neverEvaluated=")
+                    .append(this.neverEvaluated)
+                    .append(", deferredOperations=")
+                    .append(this.deferredOperations)
+                    .append(", eagerOperations=")
+                    .append(this.eagerOperations)
+                    .append("]")
+                    .toString();
+        }
+    }
+}
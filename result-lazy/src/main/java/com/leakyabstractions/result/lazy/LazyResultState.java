@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * Provides atomic access to the state of {@link LazyResult} instances.
+ * <p>
+ * This is the Java 8 implementation, based on {@link AtomicReferenceFieldUpdater}. The multi-release JAR ships a Java
+ * 21 variant of this class, based on {@code VarHandle}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+final class LazyResultState {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<LazyResult, Object> STATE =
+            AtomicReferenceFieldUpdater.newUpdater(LazyResult.class, Object.class, "state");
+
+    private LazyResultState() {
+        /** Suppresses default constructor, ensuring non-instantiability */
+    }
+
+    static Object get(LazyResult<?, ?> lazy) {
+        return lazy.state;
+    }
+
+    static boolean compareAndSet(LazyResult<?, ?> lazy, Object expected, Object state) {
+        return STATE.compareAndSet(lazy, expected, state);
+    }
+
+    static Object getAndSet(LazyResult<?, ?> lazy, Object state) {
+        return STATE.getAndSet(lazy, state);
+    }
+
+    static void setRelease(LazyResult<?, ?> lazy, Object state) {
+        STATE.lazySet(lazy, state);
+    }
+
+    /**
+     * Returns how many times a thread should spin before parking, while it waits for another thread to evaluate a lazy
+     * result.
+     *
+     * @return zero, since there is no efficient way to spin-wait in Java 8
+     */
+    static int spins() {
+        return 0;
+    }
+
+    static void onSpinWait() {
+        Thread.yield();
+    }
+}
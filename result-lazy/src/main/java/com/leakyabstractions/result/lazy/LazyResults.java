@@ -18,8 +18,22 @@ package com.leakyabstractions.result.lazy;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 import com.leakyabstractions.result.api.Result;
 
@@ -43,7 +57,11 @@ public class LazyResults {
      *     lazy result will relay the thrown exception (or {@code
      *     NullPointerException}) to its caller when/if it needs to be evaluated. If the lazy result needs to be
      *     evaluated again, it will throw {@link NoSuchElementException} (instead of trying to invoke {@code supplier}
-     *     again). This ensures that {@code supplier} will be invoked at most once.
+     *     again), with the exception thrown by {@code supplier} as its cause. This ensures that {@code supplier} will
+     *     be invoked at most once. Use {@link #capturing(Supplier, Function)} or {@link #retrying(Supplier, Function)}
+     *     to turn those exceptions into results instead. Unlike deferred operations, which are released once
+     *     evaluated, {@code supplier} is retained for the whole lifetime of the lazy result, because lazy results are
+     *     compared by their suppliers; avoid capturing large objects in it.
      * @param <S> the success type of the result
      * @param <F> the failure type of the result
      * @param supplier the function that supplies the actual result
@@ -55,4 +73,403 @@ public class LazyResults {
         requireNonNull(supplier, "supplier");
         return new LazyResult<>(supplier);
     }
+
+    /**
+     * Creates a new lazy result based on the given result supplier, using the specified thread-safety mode.
+     *
+     * @apiNote The {@code supplier} is not allowed to return {@code null}. If it does, then the lazy result will throw
+     *     {@link NoSuchElementException} when/if it needs to be evaluated. If the {@code supplier} throws an exception,
+     *     the lazy result will relay it to its caller; depending on the {@code mode}, the lazy result may invoke the
+     *     {@code supplier} again if it needs to be evaluated again. The {@code supplier} is retained for the whole
+     *     lifetime of the lazy result, as in {@link #ofSupplier(Supplier)}.
+     * @param <S> the success type of the result
+     * @param <F> the failure type of the result
+     * @param supplier the function that supplies the actual result
+     * @param mode how the evaluation of the lazy result is synchronized among multiple threads
+     * @return the new lazy result
+     * @throws NullPointerException if {@code supplier} or {@code mode} is {@code null}
+     * @see LazyThreadSafetyMode
+     */
+    public static <S, F> Result<S, F> ofSupplier(
+            Supplier<Result<S, F>> supplier, LazyThreadSafetyMode mode) {
+        requireNonNull(supplier, "supplier");
+        requireNonNull(mode, "mode");
+        return new LazyResult<>(supplier, mode);
+    }
+
+    /**
+     * Creates a new asynchronous result based on the given result supplier, which will be invoked by the given
+     * executor.
+     * <p>
+     * The {@code supplier} is submitted to the {@code executor} immediately.
+     *
+     * @apiNote The {@code supplier} is not allowed to return {@code null}. If it does, then the asynchronous result
+     *     will throw {@link NoSuchElementException} when/if its actual value is needed. If the {@code supplier} throws
+     *     an exception, the asynchronous result will relay it to its caller.
+     * @param <S> the success type of the result
+     * @param <F> the failure type of the result
+     * @param supplier the function that supplies the actual result
+     * @param executor the executor that will invoke {@code supplier}
+     * @return the new asynchronous result
+     * @throws NullPointerException if {@code supplier} or {@code executor} is {@code null}
+     * @see AsyncResult
+     */
+    public static <S, F> AsyncResult<S, F> ofAsync(Supplier<Result<S, F>> supplier, Executor executor) {
+        requireNonNull(supplier, "supplier");
+        requireNonNull(executor, "executor");
+        return new FutureResult<>(CompletableFuture.supplyAsync(supplier, executor));
+    }
+
+    /**
+     * Creates a new asynchronous result based on the given completion stage.
+     *
+     * @apiNote The {@code stage} is not allowed to complete with {@code null}. If it does, then the asynchronous result
+     *     will throw {@link NoSuchElementException} when/if its actual value is needed. If the {@code stage} completes
+     *     exceptionally, the asynchronous result will relay the exception to its caller.
+     * @param <S> the success type of the result
+     * @param <F> the failure type of the result
+     * @param stage the completion stage that will provide the actual result
+     * @return the new asynchronous result
+     * @throws NullPointerException if {@code stage} is {@code null}
+     * @see AsyncResult
+     */
+    public static <S, F> AsyncResult<S, F> ofFuture(CompletionStage<? extends Result<S, F>> stage) {
+        requireNonNull(stage, "stage");
+        return new FutureResult<>(stage.<Result<S, F>>thenApply(result -> result).toCompletableFuture());
+    }
+
+    /**
+     * Starts evaluating the given lazy result in the background, using the specified executor.
+     * <p>
+     * If {@code result} is lazy and has not been evaluated yet, a task that evaluates it is submitted to the
+     * {@code executor}. Otherwise, this method has no effect.
+     * <p>
+     * Once prefetched, the lazy result will be ready to be used immediately. If it's needed before the background task
+     * finishes, then the calling thread will join the in-flight evaluation instead of invoking the supplier again.
+     *
+     * @apiNote Lazy results created with {@link LazyThreadSafetyMode#PUBLICATION PUBLICATION} mode may be evaluated
+     *     again by the calling thread if the background task hasn't finished yet; lazy results created with
+     *     {@link LazyThreadSafetyMode#NONE NONE} mode should not be used until the background task finishes. If the
+     *     supplier throws an exception in the background, the exception is relayed to the {@code executor}.
+     * @param <S> the success type of the result
+     * @param <F> the failure type of the result
+     * @param result the result to prefetch
+     * @param executor the executor that will evaluate {@code result}
+     * @return the given {@code result}
+     * @throws NullPointerException if {@code result} or {@code executor} is {@code null}
+     * @see #prefetchAll(Collection, Executor)
+     */
+    public static <S, F> Result<S, F> prefetch(Result<S, F> result, Executor executor) {
+        requireNonNull(result, "result");
+        requireNonNull(executor, "executor");
+        if (result instanceof LazyResult) {
+            ((LazyResult<S, F>) result).prefetch(executor);
+        }
+        return result;
+    }
+
+    /**
+     * Starts evaluating the given lazy results in the background, using the specified executor.
+     * <p>
+     * A separate task is submitted to the {@code executor} for each lazy result that has not been evaluated yet, so
+     * that they can be evaluated in parallel.
+     *
+     * @param results the results to prefetch
+     * @param executor the executor that will evaluate {@code results}
+     * @throws NullPointerException if {@code results}, any of its elements, or {@code executor} is {@code null}
+     * @see #prefetch(Result, Executor)
+     */
+    public static void prefetchAll(Collection<? extends Result<?, ?>> results, Executor executor) {
+        requireNonNull(results, "results");
+        requireNonNull(executor, "executor");
+        for (Result<?, ?> result : results) {
+            requireNonNull(result, "result");
+        }
+        for (Result<?, ?> result : results) {
+            if (result instanceof LazyResult) {
+                ((LazyResult<?, ?>) result).prefetch(executor);
+            }
+        }
+    }
+
+    /**
+     * Evaluates the given lazy results concurrently, waiting until all of them are evaluated.
+     * <p>
+     * Lazy results that have already been evaluated, as well as results that are not lazy, are skipped. The rest of
+     * them are evaluated by up to {@code parallelism} workers, one of which is the calling thread; the additional
+     * workers are submitted to the {@code executor}. Lazy results that are being evaluated by some other thread are
+     * waited for instead of being evaluated again.
+     *
+     * @apiNote If any of the lazy results cannot be evaluated, the rest of them are evaluated anyway. Then the first
+     *     exception is relayed to the caller, with the other ones added as {@linkplain Throwable#getSuppressed()
+     *     suppressed exceptions}. If the calling thread is interrupted while waiting, this method keeps waiting and
+     *     then preserves the interrupt status.
+     * @param results the results to evaluate
+     * @param executor the executor that will run the additional workers
+     * @param parallelism the maximum number of lazy results evaluated at the same time
+     * @throws NullPointerException if {@code results}, any of its elements, or {@code executor} is {@code null}
+     * @throws IllegalArgumentException if {@code parallelism} is less than one
+     * @see #prefetchAll(Collection, Executor)
+     */
+    public static void evaluateAll(Collection<? extends Result<?, ?>> results, Executor executor, int parallelism) {
+        requireNonNull(results, "results");
+        requireNonNull(executor, "executor");
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        final List<LazyResult<?, ?>> pending = new ArrayList<>();
+        for (Result<?, ?> result : results) {
+            requireNonNull(result, "result");
+            if (result instanceof LazyResult && !((LazyResult<?, ?>) result).isSupplied()) {
+                pending.add((LazyResult<?, ?>) result);
+            }
+        }
+        LazyEvaluation.evaluate(pending, executor, parallelism);
+    }
+
+    /**
+     * Creates a new function that returns lazy results supplied in batches by the given bulk loader.
+     * <p>
+     * The lazy results returned by the function are collected in a batch until one of them needs to be evaluated. Then
+     * the keys of all the lazy results in the batch are passed to the {@code loader} at once, and the lazy results are
+     * supplied by the returned map. Lazy results requested after that go to a new batch. Requesting the same key more
+     * than once in the same batch returns the same lazy result.
+     *
+     * @apiNote The {@code loader} is not allowed to return {@code null} or omit any of the requested keys. If it does,
+     *     then the affected lazy results will throw {@link NoSuchElementException} when/if they need to be evaluated.
+     *     If the {@code loader} throws an exception, every lazy result in the batch will relay it to its caller.
+     * @param <K> the type of the keys
+     * @param <S> the success type of the results
+     * @param <F> the failure type of the results
+     * @param loader the function that supplies the actual results for a set of keys
+     * @return the new function
+     * @throws NullPointerException if {@code loader} is {@code null}
+     * @see #batching(Function, Duration, ScheduledExecutorService)
+     */
+    public static <K, S, F> Function<K, Result<S, F>> batching(
+            Function<? super Set<K>, ? extends Map<K, ? extends Result<S, F>>> loader) {
+        requireNonNull(loader, "loader");
+        return new BatchLoader<>(loader);
+    }
+
+    /**
+     * Creates a new function that returns lazy results supplied in batches by the given bulk loader, loading each batch
+     * in the background after a maximum latency.
+     * <p>
+     * Batches work like the ones created by {@link #batching(Function)}, except that they are also loaded by the
+     * {@code scheduler} when {@code maxLatency} has elapsed since the first key was requested. This way, lazy results
+     * will be ready to be used immediately if they are not needed earlier.
+     *
+     * @param <K> the type of the keys
+     * @param <S> the success type of the results
+     * @param <F> the failure type of the results
+     * @param loader the function that supplies the actual results for a set of keys
+     * @param maxLatency the maximum amount of time a batch can collect keys
+     * @param scheduler the executor that will load batches in the background
+     * @return the new function
+     * @throws NullPointerException if {@code loader}, {@code maxLatency} or {@code scheduler} is {@code null}
+     * @throws IllegalArgumentException if {@code maxLatency} is negative
+     * @see #batching(Function)
+     */
+    public static <K, S, F> Function<K, Result<S, F>> batching(
+            Function<? super Set<K>, ? extends Map<K, ? extends Result<S, F>>> loader,
+            Duration maxLatency,
+            ScheduledExecutorService scheduler) {
+        requireNonNull(loader, "loader");
+        requireNonNull(maxLatency, "maxLatency");
+        requireNonNull(scheduler, "scheduler");
+        if (maxLatency.isNegative()) {
+            throw new IllegalArgumentException("maxLatency must not be negative: " + maxLatency);
+        }
+        return new BatchLoader<>(loader, maxLatency.toNanos(), scheduler);
+    }
+
+    /**
+     * Creates a new lazy result based on the given result supplier, which is evaluated again once it expires.
+     * <p>
+     * The supplied result expires when {@code ttl} has elapsed since it was supplied. Then, the next time it is needed,
+     * the lazy result will invoke {@code supplier} again. Threads that need the lazy result at the same time will wait
+     * for the same evaluation.
+     *
+     * @apiNote The {@code supplier} is not allowed to return {@code null}. If it does, then the lazy result will throw
+     *     {@link NoSuchElementException} when/if it needs to be evaluated. If the {@code supplier} throws an exception,
+     *     the lazy result will relay it to its caller and invoke the {@code supplier} again the next time it's needed.
+     *     Deferred operations are applied to the result that is current whenever their derived results are needed,
+     *     so derived results are refreshed too.
+     * @param <S> the success type of the result
+     * @param <F> the failure type of the result
+     * @param supplier the function that supplies the actual result
+     * @param ttl how long supplied results are used before invoking {@code supplier} again
+     * @return the new lazy result
+     * @throws NullPointerException if {@code supplier} or {@code ttl} is {@code null}
+     * @throws IllegalArgumentException if {@code ttl} is not positive
+     * @see #expiring(Supplier, Duration, Executor)
+     */
+    public static <S, F> Result<S, F> expiring(Supplier<Result<S, F>> supplier, Duration ttl) {
+        requireNonNull(supplier, "supplier");
+        return new ExpiringResult<>(supplier, nanos(ttl), null);
+    }
+
+    /**
+     * Creates a new lazy result based on the given result supplier, which is refreshed in the background once it
+     * expires.
+     * <p>
+     * The supplied result expires when {@code ttl} has elapsed since it was supplied. Then, the next time it is needed,
+     * a refresh is submitted to the {@code executor} and the stale result keeps being used until the refresh finishes.
+     * This way, threads never wait for refreshes; they only wait for the first evaluation of the lazy result.
+     *
+     * @apiNote The {@code supplier} is not allowed to return {@code null}. If it does, then the lazy result will throw
+     *     {@link NoSuchElementException} when/if it needs to be evaluated. If the {@code supplier} throws an exception
+     *     while refreshing the lazy result, the stale result is used until another refresh succeeds. Deferred
+     *     operations are applied to the result that is current whenever their derived results are needed, so derived
+     *     results are refreshed too.
+     * @param <S> the success type of the result
+     * @param <F> the failure type of the result
+     * @param supplier the function that supplies the actual result
+     * @param ttl how long supplied results are used before refreshing them
+     * @param executor the executor that will refresh expired results
+     * @return the new lazy result
+     * @throws NullPointerException if {@code supplier}, {@code ttl} or {@code executor} is {@code null}
+     * @throws IllegalArgumentException if {@code ttl} is not positive
+     * @see #expiring(Supplier, Duration)
+     */
+    public static <S, F> Result<S, F> expiring(Supplier<Result<S, F>> supplier, Duration ttl, Executor executor) {
+        requireNonNull(supplier, "supplier");
+        requireNonNull(executor, "executor");
+        return new ExpiringResult<>(supplier, nanos(ttl), executor);
+    }
+
+    /**
+     * Creates a new lazy result based on the given result supplier, which captures the exceptions it throws.
+     * <p>
+     * If {@code supplier} throws an exception, then the lazy result will be the one returned by {@code mapper} for that
+     * exception, instead of relaying it to its caller. The captured result is memoized, so neither {@code supplier} nor
+     * {@code mapper} will be invoked again.
+     *
+     * @apiNote Neither {@code supplier} nor {@code mapper} are allowed to return {@code null}. If they do, then the
+     *     lazy result will throw {@link NoSuchElementException} when/if it needs to be evaluated. Errors are not
+     *     captured; they are relayed to the caller. If {@code mapper} throws an exception, the lazy result will relay
+     *     it to its caller, and then throw {@link NoSuchElementException}, with that exception as its cause, if it
+     *     needs to be evaluated again.
+     * @param <S> the success type of the result
+     * @param <F> the failure type of the result
+     * @param supplier the function that supplies the actual result
+     * @param mapper the function that maps exceptions thrown by {@code supplier} to results
+     * @return the new lazy result
+     * @throws NullPointerException if {@code supplier} or {@code mapper} is {@code null}
+     * @see #retrying(Supplier, Function)
+     */
+    public static <S, F> Result<S, F> capturing(
+            Supplier<Result<S, F>> supplier, Function<? super RuntimeException, ? extends Result<S, F>> mapper) {
+        requireNonNull(supplier, "supplier");
+        requireNonNull(mapper, "mapper");
+        return new LazyResult<>(() -> {
+            try {
+                return supplier.get();
+            } catch (RuntimeException e) {
+                return mapper.apply(e);
+            }
+        });
+    }
+
+    /**
+     * Creates a new lazy result based on the given result supplier, which is evaluated again after throwing an
+     * exception.
+     * <p>
+     * If {@code supplier} throws an exception, then the evaluation that needed the lazy result will get the one
+     * returned by {@code mapper} for that exception, instead of relaying it to its caller. The captured result is not
+     * memoized: the next time the lazy result is needed, {@code supplier} will be invoked again. Once it supplies a
+     * result, it will not be invoked again. Threads that need the lazy result at the same time will wait for the same
+     * evaluation.
+     *
+     * @apiNote Neither {@code supplier} nor {@code mapper} are allowed to return {@code null}. If they do, then the
+     *     lazy result will throw {@link NoSuchElementException} when/if it needs to be evaluated. Errors are not
+     *     captured; they are relayed to the caller. Deferred operations are applied to the result that is current
+     *     whenever their derived results are needed, so derived results are evaluated again too.
+     * @param <S> the success type of the result
+     * @param <F> the failure type of the result
+     * @param supplier the function that supplies the actual result
+     * @param mapper the function that maps exceptions thrown by {@code supplier} to results
+     * @return the new lazy result
+     * @throws NullPointerException if {@code supplier} or {@code mapper} is {@code null}
+     * @see #capturing(Supplier, Function)
+     */
+    public static <S, F> Result<S, F> retrying(
+            Supplier<Result<S, F>> supplier, Function<? super RuntimeException, ? extends Result<S, F>> mapper) {
+        requireNonNull(supplier, "supplier");
+        requireNonNull(mapper, "mapper");
+        return new ExpiringResult<>(supplier, mapper);
+    }
+
+    /**
+     * Creates a new lazy result whose success value is the success value of the given result converted to
+     * {@code int}.
+     * <p>
+     * Neither {@code result} nor {@code mapper} are evaluated until the returned lazy result is needed. Failures are
+     * carried over, so the failure value of the returned lazy result is the failure value of {@code result}.
+     *
+     * @param <S> the success type of the result to convert
+     * @param <F> the failure type of the result to convert
+     * @param result the result to convert
+     * @param mapper the function that converts the success value
+     * @return the new lazy int result
+     * @throws NullPointerException if {@code result} or {@code mapper} is {@code null}
+     */
+    public static <S, F> LazyIntResult<F> mapToInt(Result<S, F> result, ToIntFunction<? super S> mapper) {
+        requireNonNull(result, "result");
+        requireNonNull(mapper, "mapper");
+        return new LazyIntResult<>(result, mapper);
+    }
+
+    /**
+     * Creates a new lazy result whose success value is the success value of the given result converted to
+     * {@code long}.
+     * <p>
+     * Neither {@code result} nor {@code mapper} are evaluated until the returned lazy result is needed. Failures are
+     * carried over, so the failure value of the returned lazy result is the failure value of {@code result}.
+     *
+     * @param <S> the success type of the result to convert
+     * @param <F> the failure type of the result to convert
+     * @param result the result to convert
+     * @param mapper the function that converts the success value
+     * @return the new lazy long result
+     * @throws NullPointerException if {@code result} or {@code mapper} is {@code null}
+     */
+    public static <S, F> LazyLongResult<F> mapToLong(Result<S, F> result, ToLongFunction<? super S> mapper) {
+        requireNonNull(result, "result");
+        requireNonNull(mapper, "mapper");
+        return new LazyLongResult<>(result, mapper);
+    }
+
+    /**
+     * Creates a new lazy result whose success value is the success value of the given result converted to
+     * {@code double}.
+     * <p>
+     * Neither {@code result} nor {@code mapper} are evaluated until the returned lazy result is needed. Failures are
+     * carried over, so the failure value of the returned lazy result is the failure value of {@code result}.
+     *
+     * @param <S> the success type of the result to convert
+     * @param <F> the failure type of the result to convert
+     * @param result the result to convert
+     * @param mapper the function that converts the success value
+     * @return the new lazy double result
+     * @throws NullPointerException if {@code result} or {@code mapper} is {@code null}
+     */
+    public static <S, F> LazyDoubleResult<F> mapToDouble(Result<S, F> result, ToDoubleFunction<? super S> mapper) {
+        requireNonNull(result, "result");
+        requireNonNull(mapper, "mapper");
+        return new LazyDoubleResult<>(result, mapper);
+    }
+
+    private static long nanos(Duration ttl) {
+        requireNonNull(ttl, "ttl");
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be positive: " + ttl);
+        }
+        try {
+            return ttl.toNanos();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import java.util.function.Supplier;
+
+/**
+ * Specifies how a lazy result synchronizes its evaluation among multiple threads.
+ * <p>
+ * The mode of a lazy result is inherited by the lazy results created by its deferred operations.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @see LazyResults#ofSupplier(Supplier, LazyThreadSafetyMode)
+ */
+public enum LazyThreadSafetyMode {
+
+    /**
+     * The supplier is invoked at most once, even if several threads try to evaluate the lazy result at the same time.
+     * <p>
+     * The first thread invokes the supplier while the other ones wait for the result. Waiting threads are parked
+     * instead of blocked on a monitor, so virtual threads don't pin their carrier threads while they wait. If the
+     * supplier throws an exception, or returns {@code null}, the lazy result will not try to invoke it again.
+     */
+    SYNCHRONIZED,
+
+    /**
+     * The supplier may be invoked by several threads at the same time, but only the first result is published.
+     * <p>
+     * Threads never wait for each other: they may evaluate the lazy result concurrently, and then all of them use the
+     * result published by the first one that finished. If the supplier throws an exception, the lazy result stays
+     * unevaluated and the supplier may be invoked again.
+     */
+    PUBLICATION,
+
+    /**
+     * The lazy result is not synchronized at all.
+     * <p>
+     * This mode avoids atomic operations and should only be used when the lazy result will never be evaluated by more
+     * than one thread. If the supplier throws an exception, the lazy result stays unevaluated and the supplier may be
+     * invoked again.
+     */
+    NONE
+}
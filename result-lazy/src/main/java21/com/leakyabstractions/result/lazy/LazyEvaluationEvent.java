@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event emitted when a thread evaluates a lazy result.
+ * <p>
+ * The event thread is the one that won the evaluation; the duration includes every supplier and deferred operation in
+ * the evaluated chain.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+@Enabled(false)
+@StackTrace(true)
+@Category({"Result Library", "Lazy Results"})
+@Label("Lazy Result Evaluation")
+@Description("A thread evaluated a lazy result")
+final class LazyEvaluationEvent extends Event {
+
+    @Label("Chain Depth")
+    @Description("Number of lazy results evaluated together")
+    int depth;
+
+    @Label("Failed")
+    @Description("Whether a supplier or a deferred operation threw an exception")
+    boolean failed;
+}
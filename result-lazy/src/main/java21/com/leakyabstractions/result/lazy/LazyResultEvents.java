@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import java.util.Map;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * Emits Java Flight Recorder events for {@link LazyResult} instances.
+ * <p>
+ * This is the Java 21 implementation, which emits {@link LazyEvaluationEvent} and {@link LazyWaitEvent}. Both events
+ * are disabled by default. A flight recorder listener keeps track of whether any running recording has enabled them;
+ * until then, methods that begin an event return {@code null} after checking a single field.
+ * <p>
+ * Events are only emitted if module {@code jdk.jfr} is available. Otherwise, this class behaves like the Java 8
+ * implementation.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+final class LazyResultEvents {
+
+    static final boolean SUPPORTED = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+    private static volatile boolean enabled;
+
+    static {
+        if (SUPPORTED) {
+            Recorder.listen();
+        }
+    }
+
+    private LazyResultEvents() {
+        /** Suppresses default constructor, ensuring non-instantiability */
+    }
+
+    static Object beginEvaluation() {
+        return enabled ? Recorder.beginEvaluation() : null;
+    }
+
+    static void endEvaluation(Object event, int depth, boolean failed) {
+        if (event != null) {
+            Recorder.endEvaluation(event, depth, failed);
+        }
+    }
+
+    static Object beginWait() {
+        return enabled ? Recorder.beginWait() : null;
+    }
+
+    static void endWait(Object event, Thread owner) {
+        if (event != null) {
+            Recorder.endWait(event, owner);
+        }
+    }
+
+    /** Keeps references to JFR classes out of the enclosing class, which must load even if JFR is not available. */
+    private static final class Recorder implements FlightRecorderListener {
+
+        private static final String[] EVENTS = {LazyEvaluationEvent.class.getName(), LazyWaitEvent.class.getName()};
+
+        static void listen() {
+            FlightRecorder.addListener(new Recorder());
+            if (FlightRecorder.isInitialized()) {
+                update();
+            }
+        }
+
+        @Override
+        public void recordingStateChanged(Recording recording) {
+            update();
+        }
+
+        private static void update() {
+            boolean any = false;
+            for (Recording recording : FlightRecorder.getFlightRecorder().getRecordings()) {
+                any |= recording.getState() == RecordingState.RUNNING && isEnabled(recording.getSettings());
+            }
+            enabled = any;
+        }
+
+        private static boolean isEnabled(Map<String, String> settings) {
+            for (String event : EVENTS) {
+                if ("true".equals(settings.get(event + "#enabled"))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        static Object beginEvaluation() {
+            final LazyEvaluationEvent event = new LazyEvaluationEvent();
+            if (!event.isEnabled()) {
+                return null;
+            }
+            event.begin();
+            return event;
+        }
+
+        static void endEvaluation(Object event, int depth, boolean failed) {
+            final LazyEvaluationEvent evaluation = (LazyEvaluationEvent) event;
+            evaluation.end();
+            if (evaluation.shouldCommit()) {
+                evaluation.depth = depth;
+                evaluation.failed = failed;
+                evaluation.commit();
+            }
+        }
+
+        static Object beginWait() {
+            final LazyWaitEvent event = new LazyWaitEvent();
+            if (!event.isEnabled()) {
+                return null;
+            }
+            event.begin();
+            return event;
+        }
+
+        static void endWait(Object event, Thread owner) {
+            final LazyWaitEvent wait = (LazyWaitEvent) event;
+            wait.end();
+            if (wait.shouldCommit()) {
+                wait.owner = owner;
+                wait.commit();
+            }
+        }
+    }
+}
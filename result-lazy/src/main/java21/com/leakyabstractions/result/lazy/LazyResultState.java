@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Provides atomic access to the state of {@link LazyResult} instances.
+ * <p>
+ * This is the Java 21 implementation, based on {@link VarHandle}. Reads use acquire semantics, which is all the
+ * evaluation protocol needs. Platform threads spin briefly before parking; virtual threads park right away, since
+ * parking them is cheap and spinning would keep their carrier threads busy.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+final class LazyResultState {
+
+    private static final int SPINS = Runtime.getRuntime().availableProcessors() > 1 ? 64 : 0;
+    private static final VarHandle STATE;
+
+    static {
+        try {
+            STATE = MethodHandles.lookup().findVarHandle(LazyResult.class, "state", Object.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private LazyResultState() {
+        /** Suppresses default constructor, ensuring non-instantiability */
+    }
+
+    static Object get(LazyResult<?, ?> lazy) {
+        return STATE.getAcquire(lazy);
+    }
+
+    static boolean compareAndSet(LazyResult<?, ?> lazy, Object expected, Object state) {
+        return STATE.compareAndSet(lazy, expected, state);
+    }
+
+    static Object getAndSet(LazyResult<?, ?> lazy, Object state) {
+        return STATE.getAndSet(lazy, state);
+    }
+
+    static void setRelease(LazyResult<?, ?> lazy, Object state) {
+        STATE.setRelease(lazy, state);
+    }
+
+    /**
+     * Returns how many times a thread should spin before parking, while it waits for another thread to evaluate a lazy
+     * result.
+     *
+     * @return zero for virtual threads or single-processor machines; a small number otherwise
+     */
+    static int spins() {
+        return Thread.currentThread().isVirtual() ? 0 : SPINS;
+    }
+
+    static void onSpinWait() {
+        Thread.onSpinWait();
+    }
+}
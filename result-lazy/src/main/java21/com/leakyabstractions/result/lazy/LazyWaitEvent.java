@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event emitted when a thread waits for a lazy result that another thread is evaluating.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+@Enabled(false)
+@StackTrace(true)
+@Category({"Result Library", "Lazy Results"})
+@Label("Lazy Result Wait")
+@Description("A thread waited for a lazy result being evaluated by another thread")
+final class LazyWaitEvent extends Event {
+
+    @Label("Owner Thread")
+    @Description("Thread evaluating the lazy result")
+    Thread owner;
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.assertj.core.api.ThrowableAssert;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link BatchingLazyConsumer#accept(Object)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("BatchingLazyConsumer accept")
+class BatchingLazyConsumer_accept_Test {
+
+    private final List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+    private final Consumer<List<Integer>> sink = batches::add;
+
+    @Test
+    void should_throw_exception_when_null_sink() {
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> BatchingLazyConsumer.ofMaximumSize(null, 10);
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_throw_exception_when_max_size_not_positive() {
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> BatchingLazyConsumer.ofMaximumSize(sink, 0);
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void should_not_accept_values_until_evaluated() {
+        // Given
+        final BatchingLazyConsumer<Integer> consumer = BatchingLazyConsumer.ofMaximumSize(sink, 1);
+        final Result<Integer, String> lazy = LazyResults.ofSupplier(() -> success(1));
+        // When
+        final Result<Integer, String> result = lazy.ifSuccess(consumer);
+        // Then
+        assertThat(batches).isEmpty();
+        assertThat(result.getSuccess()).contains(1);
+        assertThat(batches).containsExactly(Arrays.asList(1));
+    }
+
+    @Test
+    void should_flush_full_batches() {
+        // Given
+        final BatchingLazyConsumer<Integer> consumer = BatchingLazyConsumer.ofMaximumSize(sink, 3);
+        final List<Result<Integer, String>> results = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            final int value = i;
+            results.add(LazyResults.<Integer, String>ofSupplier(() -> success(value)).ifSuccess(consumer));
+        }
+        // When
+        results.forEach(Result::getSuccess);
+        // Then
+        assertThat(batches).containsExactly(Arrays.asList(0, 1, 2), Arrays.asList(3, 4, 5));
+        assertThat(consumer).hasToString("BatchingLazyConsumer[1 buffered]");
+    }
+
+    @Test
+    void should_flush_batches_after_max_delay() throws InterruptedException {
+        // Given
+        final CountDownLatch flushed = new CountDownLatch(1);
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        final BatchingLazyConsumer<Integer> consumer = BatchingLazyConsumer.ofMaximumSize(
+                sink.andThen(batch -> flushed.countDown()), 100, Duration.ofMillis(10), scheduler);
+        try {
+            // When
+            consumer.accept(1);
+            consumer.accept(2);
+            flushed.await(1, TimeUnit.MINUTES);
+        } finally {
+            scheduler.shutdown();
+        }
+        // Then
+        assertThat(batches).containsExactly(Arrays.asList(1, 2));
+    }
+
+    @Test
+    void should_relay_sink_exceptions() {
+        // Given
+        final BatchingLazyConsumer<Integer> consumer = BatchingLazyConsumer.ofMaximumSize(batch -> {
+            throw new IllegalStateException("FAILURE");
+        }, 1);
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> consumer.accept(1);
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(IllegalStateException.class).hasMessage("FAILURE");
+        assertThat(consumer).hasToString("BatchingLazyConsumer[0 buffered]");
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.assertj.core.api.ThrowableAssert;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link BatchingLazyConsumer#close()}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("BatchingLazyConsumer close")
+class BatchingLazyConsumer_close_Test {
+
+    private final List<List<String>> batches = new ArrayList<>();
+
+    @Test
+    void should_flush_buffered_values() {
+        // Given
+        final BatchingLazyConsumer<String> consumer = BatchingLazyConsumer.ofMaximumSize(batches::add, 10);
+        consumer.accept("A");
+        consumer.accept("B");
+        // When
+        consumer.close();
+        // Then
+        assertThat(batches).containsExactly(Arrays.asList("A", "B"));
+        assertThat(consumer).hasToString("BatchingLazyConsumer[0 buffered, closed]");
+    }
+
+    @Test
+    void should_not_flush_empty_batches() {
+        // Given
+        final BatchingLazyConsumer<String> consumer = BatchingLazyConsumer.ofMaximumSize(batches::add, 10);
+        // When
+        consumer.close();
+        consumer.close();
+        // Then
+        assertThat(batches).isEmpty();
+    }
+
+    @Test
+    void should_reject_values_once_closed() {
+        // Given
+        final BatchingLazyConsumer<String> consumer = BatchingLazyConsumer.ofMaximumSize(batches::add, 10);
+        consumer.close();
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> consumer.accept("A");
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -17,10 +17,15 @@
 package com.leakyabstractions.result.lazy;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Consumer;
 
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -42,4 +47,45 @@ class LazyConsumer_andThen_Test {
         // Then
         assertThat(composedAction).isInstanceOf(LazyConsumer.class);
     }
+
+    @Test
+    void should_perform_actions_in_order() {
+        // Given
+        final List<String> performed = new ArrayList<>();
+        final LazyConsumer<String> action1 = s -> performed.add(s + 1);
+        final LazyConsumer<String> action2 = s -> performed.add(s + 2);
+        final LazyConsumer<String> action3 = s -> performed.add(s + 3);
+        // When
+        action1.andThen(action2.andThen(action3)).andThen(action1).accept("A");
+        // Then
+        assertThat(performed).containsExactly("A1", "A2", "A3", "A1");
+    }
+
+    @Test
+    void should_not_perform_next_actions_when_exception_thrown() {
+        // Given
+        final LazyConsumer<String> action1 = s -> {
+            throw new IllegalStateException(s);
+        };
+        final Consumer<String> action2 = s -> fail("Should not happen");
+        // When
+        ThrowingCallable callable = () -> action1.andThen(action2).accept("A");
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(IllegalStateException.class).hasMessage("A");
+    }
+
+    @Test
+    void should_not_nest_composed_actions() {
+        // Given
+        final List<Integer> depths = new ArrayList<>();
+        final LazyConsumer<String> action = s -> depths.add(new Throwable().getStackTrace().length);
+        LazyConsumer<String> composed = action;
+        for (int i = 0; i < 1000; i++) {
+            composed = composed.andThen(action);
+        }
+        // When
+        composed.accept("A");
+        // Then
+        assertThat(depths).hasSize(1001).containsOnly(depths.get(0));
+    }
 }
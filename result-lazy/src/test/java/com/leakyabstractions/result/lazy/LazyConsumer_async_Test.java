@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link LazyConsumer#async(Consumer, Executor, Function)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("LazyConsumer async")
+class LazyConsumer_async_Test {
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final Executor executor = tasks::add;
+    private final List<String> performed = new ArrayList<>();
+
+    @Test
+    void should_throw_exception_when_null_executor() {
+        // When
+        ThrowingCallable callable = () -> LazyConsumer.<String>async(performed::add, null);
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_throw_exception_when_null_key_extractor() {
+        // When
+        ThrowingCallable callable = () -> LazyConsumer.<String>async(performed::add, executor, null);
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_dispatch_to_executor_once_evaluated() {
+        // Given
+        final Result<String, String> lazy = LazyResults.ofSupplier(() -> success("SUCCESS"));
+        final Result<String, String> result = lazy.ifSuccess(LazyConsumer.<String>async(performed::add, executor));
+        // When
+        result.getSuccess();
+        // Then
+        assertThat(performed).isEmpty();
+        assertThat(tasks).hasSize(1);
+        tasks.get(0).run();
+        assertThat(performed).containsExactly("SUCCESS");
+    }
+
+    @Test
+    void should_keep_actions_for_the_same_key_in_order() {
+        // Given
+        final LazyConsumer<String> consumer = LazyConsumer.async(performed::add, executor, s -> s.charAt(0));
+        // When
+        consumer.accept("A1");
+        consumer.accept("A2");
+        consumer.accept("A3");
+        // Then
+        assertThat(tasks).hasSize(1);
+        tasks.get(0).run();
+        assertThat(performed).containsExactly("A1", "A2", "A3");
+    }
+
+    @Test
+    void should_dispatch_actions_for_different_keys_separately() {
+        // Given
+        final LazyConsumer<String> consumer = LazyConsumer.async(performed::add, executor, s -> s.charAt(0));
+        // When
+        consumer.accept("A1");
+        consumer.accept("B1");
+        // Then
+        assertThat(tasks).hasSize(2);
+    }
+
+    @Test
+    void should_move_on_when_action_throws_exception() {
+        // Given
+        final LazyConsumer<String> consumer = LazyConsumer.async(
+                s -> {
+                    if (s.endsWith("1")) {
+                        throw new IllegalStateException(s);
+                    }
+                    performed.add(s);
+                },
+                executor,
+                s -> s.charAt(0));
+        consumer.accept("A1");
+        consumer.accept("A2");
+        // When
+        ThrowingCallable callable = () -> tasks.get(0).run();
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(IllegalStateException.class).hasMessage("A1");
+        assertThat(tasks).hasSize(2);
+        tasks.get(1).run();
+        assertThat(performed).containsExactly("A2");
+    }
+
+    @Test
+    void should_keep_dispatching_when_executor_rejects_a_task() {
+        // Given
+        final AtomicBoolean rejecting = new AtomicBoolean(true);
+        final Executor flaky = task -> {
+            if (rejecting.get()) {
+                throw new RejectedExecutionException("Testing");
+            }
+            task.run();
+        };
+        final LazyConsumer<String> consumer = LazyConsumer.async(performed::add, flaky, s -> s.charAt(0));
+        assertThatThrownBy(() -> consumer.accept("A1")).isInstanceOf(RejectedExecutionException.class);
+        rejecting.set(false);
+        // When
+        for (int i = 2; i <= 6; i++) {
+            consumer.accept("A" + i);
+        }
+        // Then
+        assertThat(performed).containsExactly("A2", "A3", "A4", "A5", "A6");
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.assertj.core.api.ThrowableAssert;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link LazyResultCache#get(Object)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("LazyResultCache get")
+class LazyResultCache_get_Test {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final Function<Integer, Result<String, String>> loader = key -> {
+        loads.incrementAndGet();
+        return success(String.valueOf(key));
+    };
+
+    @Test
+    void should_throw_exception_when_null_key() {
+        // Given
+        final LazyResultCache<Integer, String, String> cache = LazyResultCache.ofMaximumSize(loader, 10);
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> cache.get(null);
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_throw_exception_when_negative_maximum_size() {
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> LazyResultCache.ofMaximumSize(loader, -1);
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("maximumSize");
+    }
+
+    @Test
+    void should_create_lazy_result_on_demand() {
+        // Given
+        final LazyResultCache<Integer, String, String> cache = LazyResultCache.ofMaximumSize(loader, 10);
+        // When
+        final Result<String, String> result = cache.get(1);
+        // Then
+        assertThat(loads).hasValue(0);
+        assertThat(result.getSuccess()).contains("1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void should_return_same_lazy_result_for_same_key() {
+        // Given
+        final LazyResultCache<Integer, String, String> cache = LazyResultCache.ofMaximumSize(loader, 10);
+        // When
+        final Result<String, String> result1 = cache.get(1);
+        final Result<String, String> result2 = cache.get(1);
+        // Then
+        assertThat(result1).isSameAs(result2);
+    }
+
+    @Test
+    void should_load_each_key_once_concurrently() throws Exception {
+        // Given
+        final int threads = 8;
+        final LazyResultCache<Integer, String, String> cache = LazyResultCache.ofMaximumSize(loader, 10);
+        final CyclicBarrier barrier = new CyclicBarrier(threads);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final List<Future<Boolean>> futures = new ArrayList<>();
+        // When
+        try {
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    barrier.await();
+                    return cache.get(1).hasSuccess();
+                }));
+            }
+            for (Future<Boolean> future : futures) {
+                assertThat(future.get()).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        // Then
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void should_load_key_again_when_loader_fails() {
+        // Given
+        final AtomicInteger attempts = new AtomicInteger();
+        final LazyResultCache<Integer, String, String> cache = LazyResultCache.ofMaximumSize(key -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException();
+            }
+            return success(String.valueOf(key));
+        }, 10);
+        final Result<String, String> failed = cache.get(1);
+        assertThatThrownBy(failed::hasSuccess).isInstanceOf(IllegalStateException.class);
+        // When
+        final Result<String, String> result = cache.get(1);
+        // Then
+        assertThat(result).isNotSameAs(failed);
+        assertThat(result.getSuccess()).contains("1");
+    }
+
+    @Test
+    void should_evict_when_maximum_size_exceeded() {
+        // Given
+        final LazyResultCache<Integer, String, String> cache = LazyResultCache.ofMaximumSize(loader, 10);
+        // When
+        for (int i = 0; i < 100; i++) {
+            cache.get(i);
+        }
+        // Then
+        assertThat(cache.size()).isEqualTo(10);
+        assertThat(cache.stats().evictionCount()).isEqualTo(90);
+    }
+
+    @Test
+    void should_keep_frequently_requested_keys() {
+        // Given
+        final LazyResultCache<Integer, String, String> cache = LazyResultCache.ofMaximumSize(loader, 10);
+        final Result<String, String> hot = cache.get(0);
+        // When
+        for (int i = 1; i < 100; i++) {
+            cache.get(0);
+            cache.get(i);
+        }
+        // Then
+        assertThat(cache.get(0)).isSameAs(hot);
+    }
+
+    @Test
+    void should_evict_when_maximum_weight_exceeded() {
+        // Given
+        final LazyResultCache<Integer, String, String> cache = LazyResultCache.ofMaximumWeight(loader, key -> key, 10);
+        // When
+        cache.get(4);
+        cache.get(5);
+        cache.get(6);
+        // Then
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.stats().evictionCount()).isEqualTo(2);
+    }
+}
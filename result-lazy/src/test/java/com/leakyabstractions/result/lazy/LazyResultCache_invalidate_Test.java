@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link LazyResultCache#invalidate(Object)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("LazyResultCache invalidate")
+class LazyResultCache_invalidate_Test {
+
+    @Test
+    void should_discard_lazy_result() {
+        // Given
+        final LazyResultCache<Integer, String, String> cache = LazyResultCache.ofMaximumSize(
+                key -> success(String.valueOf(key)), 10);
+        final Result<String, String> result = cache.get(1);
+        // When
+        cache.invalidate(1);
+        // Then
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get(1)).isNotSameAs(result);
+    }
+
+    @Test
+    void should_discard_all_lazy_results() {
+        // Given
+        final LazyResultCache<Integer, String, String> cache = LazyResultCache.ofMaximumSize(
+                key -> success(String.valueOf(key)), 10);
+        for (int i = 0; i < 5; i++) {
+            cache.get(i);
+        }
+        // When
+        cache.invalidateAll();
+        // Then
+        assertThat(cache.size()).isZero();
+        assertThat(cache.stats().evictionCount()).isZero();
+    }
+
+    @Test
+    void should_ignore_missing_key() {
+        // Given
+        final LazyResultCache<Integer, String, String> cache = LazyResultCache.ofMaximumSize(
+                key -> success(String.valueOf(key)), 10);
+        // When
+        cache.invalidate(1);
+        // Then
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void should_not_evict_discarded_lazy_results() {
+        // Given
+        final LazyResultCache<Integer, String, String> cache = LazyResultCache.ofMaximumSize(
+                key -> success(String.valueOf(key)), 2);
+        final Result<String, String> result = cache.get(1);
+        cache.get(2);
+        cache.invalidate(2);
+        cache.get(3);
+        // When
+        cache.get(4);
+        // Then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.stats().evictionCount()).isOne();
+        assertThat(cache.get(1)).isNotSameAs(result);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link LazyResultCache#stats()}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("LazyResultCache stats")
+class LazyResultCache_stats_Test {
+
+    @Test
+    void should_be_empty_initially() {
+        // Given
+        final LazyResultCache<Integer, String, String> cache = LazyResultCache.ofMaximumSize(
+                key -> success(String.valueOf(key)), 10);
+        // When
+        final LazyResultCache.Stats stats = cache.stats();
+        // Then
+        assertThat(stats.hitCount()).isZero();
+        assertThat(stats.missCount()).isZero();
+        assertThat(stats.evictionCount()).isZero();
+        assertThat(stats.hitRate()).isEqualTo(1.0);
+    }
+
+    @Test
+    void should_count_hits_misses_and_evictions() {
+        // Given
+        final LazyResultCache<Integer, String, String> cache = LazyResultCache.ofMaximumSize(
+                key -> success(String.valueOf(key)), 2);
+        cache.get(1);
+        cache.get(1);
+        cache.get(2);
+        cache.get(3);
+        // When
+        final LazyResultCache.Stats stats = cache.stats();
+        // Then
+        assertThat(stats.hitCount()).isEqualTo(1);
+        assertThat(stats.missCount()).isEqualTo(3);
+        assertThat(stats.evictionCount()).isEqualTo(1);
+        assertThat(stats.hitRate()).isEqualTo(0.25);
+        assertThat(stats).hasToString("Stats[hits=1, misses=3, evictions=1]");
+    }
+}
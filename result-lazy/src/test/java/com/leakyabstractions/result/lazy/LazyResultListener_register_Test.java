@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.ThrowableAssert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link LazyResultListener#register(LazyResultListener)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("LazyResultListener register")
+class LazyResultListener_register_Test {
+
+    private final List<String> events = new ArrayList<>();
+
+    private final LazyResultListener listener = new LazyResultListener() {
+
+        @Override
+        public void onCreate(Result<?, ?> result) {
+            events.add("create");
+        }
+
+        @Override
+        public void onDeferredOperation(Result<?, ?> upstream, Result<?, ?> deferred) {
+            events.add("deferred");
+        }
+
+        @Override
+        public void onEagerOperation(Result<?, ?> upstream) {
+            events.add("eager");
+        }
+
+        @Override
+        public void onEvaluationStart(Result<?, ?> result, int depth) {
+            events.add("start:" + depth);
+        }
+
+        @Override
+        public void onEvaluationEnd(Result<?, ?> result, long nanos) {
+            events.add(nanos >= 0 ? "end" : "negative");
+        }
+
+        @Override
+        public void onEvaluationFailure(Result<?, ?> result, Throwable failure, long nanos) {
+            events.add("failure:" + failure.getMessage());
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        LazyResultListener.unregister(listener);
+    }
+
+    @Test
+    void should_throw_exception_when_null_listener() {
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> LazyResultListener.register(null);
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_notify_lifecycle_of_lazy_results() {
+        // Given
+        LazyResultListener.register(listener);
+        final Result<String, String> lazy = LazyResults.<String, String>ofSupplier(() -> success("OK"))
+                .mapSuccess(String::toLowerCase)
+                .filter(s -> true, s -> s);
+        // When
+        lazy.hasSuccess();
+        lazy.mapSuccess(String::length);
+        // Then
+        assertThat(events).containsExactly(
+                "create", "create", "deferred", "create", "deferred", "start:3", "end", "eager");
+    }
+
+    @Test
+    void should_notify_failed_evaluations() {
+        // Given
+        LazyResultListener.register(listener);
+        final Result<String, String> lazy = LazyResults.ofSupplier(() -> {
+            throw new IllegalStateException("FAILURE");
+        });
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> lazy.hasSuccess();
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(IllegalStateException.class);
+        assertThat(events).containsExactly("create", "start:1", "failure:FAILURE");
+    }
+
+    @Test
+    void should_not_notify_unregistered_listeners() {
+        // Given
+        LazyResultListener.register(listener);
+        LazyResultListener.unregister(listener);
+        // When
+        LazyResults.ofSupplier(() -> success("OK")).hasSuccess();
+        // Then
+        assertThat(events).isEmpty();
+        assertThat(LazyResultListeners.current).isNull();
+    }
+
+    @Test
+    void should_ignore_exceptions_thrown_by_listeners() {
+        // Given
+        final LazyResultListener failing = new LazyResultListener() {
+            @Override
+            public void onEvaluationStart(Result<?, ?> result, int depth) {
+                throw new IllegalStateException();
+            }
+        };
+        LazyResultListener.register(failing);
+        LazyResultListener.register(listener);
+        // When
+        final boolean result;
+        try {
+            result = LazyResults.ofSupplier(() -> success("OK")).hasSuccess();
+        } finally {
+            LazyResultListener.unregister(failing);
+        }
+        // Then
+        assertThat(result).isTrue();
+        assertThat(events).containsExactly("create", "start:1", "end");
+    }
+
+    @Test
+    void should_release_waiting_threads_when_listeners_throw_errors() {
+        // Given
+        final LazyResultListener failing = new LazyResultListener() {
+            @Override
+            public void onEvaluationStart(Result<?, ?> result, int depth) {
+                throw new Error("Listener failed");
+            }
+        };
+        final Result<String, String> lazy = LazyResults.ofSupplier(() -> success("OK"));
+        LazyResultListener.register(failing);
+        try {
+            assertThatThrownBy(lazy::getSuccess).hasMessage("Listener failed");
+        } finally {
+            LazyResultListener.unregister(failing);
+        }
+        // When
+        final CompletableFuture<Optional<String>> waiting = CompletableFuture.supplyAsync(lazy::getSuccess);
+        // Then
+        assertThatThrownBy(() -> waiting.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(NoSuchElementException.class)
+                .hasRootCauseExactlyInstanceOf(Error.class);
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link LazyResultMetrics#snapshot()}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("LazyResultMetrics snapshot")
+class LazyResultMetrics_snapshot_Test {
+
+    private static final int NEVER_EVALUATED = 100;
+    private static final int GC_ATTEMPTS = 20;
+
+    @BeforeEach
+    void setUp() {
+        LazyResultMetrics.enable();
+    }
+
+    @AfterEach
+    void tearDown() {
+        LazyResultMetrics.disable();
+    }
+
+    @Test
+    void should_count_created_and_evaluated_lazy_results() {
+        // Given
+        final LazyResultMetrics.Snapshot before = LazyResultMetrics.snapshot();
+        final Result<String, String> lazy = LazyResults.<String, String>ofSupplier(() -> success("OK"))
+                .mapSuccess(String::toLowerCase)
+                .mapSuccess(String::trim);
+        // When
+        lazy.getSuccess();
+        // Then
+        final LazyResultMetrics.Snapshot after = LazyResultMetrics.snapshot();
+        assertThat(after.created() - before.created()).isEqualTo(3);
+        assertThat(after.evaluated() - before.evaluated()).isEqualTo(3);
+    }
+
+    @Test
+    void should_count_deferred_and_eager_operations() {
+        // Given
+        final LazyResultMetrics.Snapshot before = LazyResultMetrics.snapshot();
+        final Result<String, String> lazy = LazyResults.<String, String>ofSupplier(() -> success("OK"))
+                .mapSuccess(String::toLowerCase);
+        // When
+        lazy.ifSuccess(s -> {
+            // Regular consumers can't be deferred
+        });
+        lazy.mapSuccess(String::trim);
+        // Then
+        final LazyResultMetrics.Snapshot after = LazyResultMetrics.snapshot();
+        assertThat(after.deferredOperations() - before.deferredOperations()).isEqualTo(1);
+        assertThat(after.eagerOperations() - before.eagerOperations()).isEqualTo(2);
+    }
+
+    @Test
+    void should_count_lazy_results_never_evaluated() {
+        // Given
+        final LazyResultMetrics.Snapshot before = LazyResultMetrics.snapshot();
+        createLazyResults();
+        // When
+        LazyResultMetrics.Snapshot after = LazyResultMetrics.snapshot();
+        for (int i = 0; i < GC_ATTEMPTS && after.neverEvaluated() - before.neverEvaluated() < NEVER_EVALUATED; i++) {
+            System.gc();
+            Thread.yield();
+            after = LazyResultMetrics.snapshot();
+        }
+        // Then
+        assertThat(after.neverEvaluated() - before.neverEvaluated()).isEqualTo(NEVER_EVALUATED);
+        assertThat(after.evaluated() - before.evaluated()).isZero();
+    }
+
+    @Test
+    void should_not_count_evaluated_lazy_results_as_never_evaluated() {
+        // Given
+        final LazyResultMetrics.Snapshot before = LazyResultMetrics.snapshot();
+        Result<String, String> lazy = LazyResults.ofSupplier(() -> success("OK"));
+        lazy.hasSuccess();
+        lazy = null;
+        // When
+        for (int i = 0; i < GC_ATTEMPTS; i++) {
+            System.gc();
+            Thread.yield();
+        }
+        // Then
+        final LazyResultMetrics.Snapshot after = LazyResultMetrics.snapshot();
+        assertThat(lazy).isNull();
+        assertThat(after.evaluated() - before.evaluated()).isOne();
+        assertThat(after.neverEvaluated() - before.neverEvaluated()).isZero();
+    }
+
+    @Test
+    void should_not_count_lazy_results_when_disabled() {
+        // Given
+        LazyResultMetrics.disable();
+        final LazyResultMetrics.Snapshot before = LazyResultMetrics.snapshot();
+        // When
+        LazyResults.ofSupplier(() -> success("OK")).hasSuccess();
+        // Then
+        final LazyResultMetrics.Snapshot after = LazyResultMetrics.snapshot();
+        assertThat(after.created()).isEqualTo(before.created());
+        assertThat(after.evaluated()).isEqualTo(before.evaluated());
+    }
+
+    private static void createLazyResults() {
+        for (int i = 0; i < NEVER_EVALUATED; i++) {
+            LazyResults.ofSupplier(() -> success("OK"));
+        }
+    }
+}
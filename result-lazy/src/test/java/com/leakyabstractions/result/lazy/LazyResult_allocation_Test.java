@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import static com.leakyabstractions.result.test.Results.failure;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Tests for the memory allocated by {@link LazyResult} operations.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("LazyResult allocation")
+class LazyResult_allocation_Test {
+
+    private static final int ITERATIONS = 10_000;
+    private static final int MEASUREMENTS = 5;
+    private static final Function<String, String> MAPPER = String::trim;
+    private static final Function<String, Result<String, String>> FLAT_MAPPER = s -> failure(s);
+    private static final Predicate<String> PREDICATE = s -> true;
+    private static final LazyConsumer<String> ACTION = s -> {};
+
+    private ThreadMXBean threads;
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean);
+        this.threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(this.threads.isThreadAllocatedMemorySupported() && this.threads.isThreadAllocatedMemoryEnabled());
+    }
+
+    @Test
+    void should_not_allocate_when_already_evaluated() {
+        // Given
+        final Result<String, String> lazy = new LazyResult<>(() -> failure("FAILURE"));
+        lazy.hasFailure();
+        apply(lazy, ITERATIONS);
+        // When
+        final long allocated = this.allocatedBytes(lazy);
+        // Then
+        assertThat(allocated).isZero();
+    }
+
+    @Test
+    void should_allocate_deferred_operations_when_not_evaluated() {
+        // Given
+        final Result<String, String> lazy = new LazyResult<>(() -> failure("FAILURE"));
+        apply(lazy, ITERATIONS);
+        // When
+        final long allocated = this.allocatedBytes(lazy);
+        // Then
+        assertThat(allocated).isPositive();
+    }
+
+    private long allocatedBytes(Result<String, String> result) {
+        // Operations on failed results don't allocate anything, so any allocated bytes belong to the lazy result
+        final long id = Thread.currentThread().threadId();
+        long allocated = Long.MAX_VALUE;
+        for (int i = 0; i < MEASUREMENTS && allocated > 0; i++) {
+            // The JVM itself may allocate now and then on behalf of this thread, so keep the lowest measurement
+            final long before = this.threads.getThreadAllocatedBytes(id);
+            apply(result, ITERATIONS);
+            allocated = Math.min(allocated, this.threads.getThreadAllocatedBytes(id) - before);
+        }
+        return allocated;
+    }
+
+    private static void apply(Result<String, String> result, int iterations) {
+        for (int i = 0; i < iterations; i++) {
+            result.mapSuccess(MAPPER);
+            result.filter(PREDICATE, MAPPER);
+            result.flatMapSuccess(FLAT_MAPPER);
+            result.ifSuccess(ACTION);
+        }
+    }
+}
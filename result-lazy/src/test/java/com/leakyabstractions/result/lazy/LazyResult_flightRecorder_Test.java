@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Tests for the flight recorder events emitted by {@link LazyResult}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("LazyResult flight recorder")
+class LazyResult_flightRecorder_Test {
+
+    private static final String EVALUATION = "com.leakyabstractions.result.lazy.LazyEvaluationEvent";
+    private static final String WAIT = "com.leakyabstractions.result.lazy.LazyWaitEvent";
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(LazyResultEvents.SUPPORTED, "Flight recorder events require the Java 21 variants");
+    }
+
+    @Test
+    void should_be_disabled_by_default() {
+        // When
+        final Object event = LazyResultEvents.beginEvaluation();
+        // Then
+        assertThat(event).isNull();
+    }
+
+    @Test
+    void should_record_evaluations() throws Exception {
+        // Given
+        final Result<String, String> lazy = LazyResults.<String, String>ofSupplier(() -> success("OK"))
+                .mapSuccess(String::toLowerCase)
+                .mapSuccess(String::trim);
+        final List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(EVALUATION).withThreshold(Duration.ZERO);
+            recording.start();
+            // When
+            lazy.getSuccess();
+            recording.stop();
+            events = events(recording, EVALUATION);
+        }
+        // Then
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getInt("depth")).isEqualTo(3);
+        assertThat(events.get(0).getBoolean("failed")).isFalse();
+        assertThat(events.get(0).getThread().getJavaThreadId()).isEqualTo(Thread.currentThread().threadId());
+    }
+
+    @Test
+    void should_record_contended_threads() throws Exception {
+        // Given
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch finish = new CountDownLatch(1);
+        final Result<String, String> lazy = LazyResults.ofSupplier(() -> {
+            started.countDown();
+            await(finish);
+            return success("OK");
+        });
+        final CountDownLatch recorded = new CountDownLatch(1);
+        final Thread owner = new Thread(() -> {
+            lazy.hasSuccess();
+            // Keep the owner thread alive until the recording stops, so that it can be referenced by events
+            await(recorded);
+        }, "owner");
+        final List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(WAIT).withThreshold(Duration.ZERO);
+            recording.start();
+            owner.start();
+            started.await();
+            final Thread waiter = new Thread(lazy::hasSuccess, "waiter");
+            waiter.start();
+            // When
+            while (waiter.getState() != Thread.State.WAITING) {
+                Thread.yield();
+            }
+            finish.countDown();
+            waiter.join();
+            recording.stop();
+            recorded.countDown();
+            owner.join();
+            events = events(recording, WAIT);
+        }
+        // Then
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getThread().getJavaName()).isEqualTo("waiter");
+        assertThat(events.get(0).getThread("owner").getJavaName()).isEqualTo("owner");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static List<RecordedEvent> events(Recording recording, String name) throws Exception {
+        final Path file = Files.createTempFile("lazy", ".jfr");
+        try {
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals(name))
+                    .collect(Collectors.toList());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
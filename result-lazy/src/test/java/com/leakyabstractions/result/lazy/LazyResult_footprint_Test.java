@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for the memory retained by {@link LazyResult}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("LazyResult footprint")
+class LazyResult_footprint_Test {
+
+    private static final int PAYLOAD_SIZE = 16 * 1024 * 1024;
+    private static final int GC_ATTEMPTS = 20;
+
+    @Test
+    void should_release_upstream_chain_once_evaluated() {
+        // Given
+        final List<WeakReference<?>> retained = new ArrayList<>();
+        final Result<Integer, String> lazy = capturingChain(retained);
+        // When
+        lazy.getSuccess();
+        // Then
+        assertThat(retained).allMatch(LazyResult_footprint_Test::isCollected);
+        assertThat(lazy.getSuccess()).contains(PAYLOAD_SIZE);
+    }
+
+    @Test
+    void should_retain_upstream_chain_until_evaluated() {
+        // Given
+        final List<WeakReference<?>> retained = new ArrayList<>();
+        final Result<Integer, String> lazy = capturingChain(retained);
+        // Then
+        assertThat(retained).noneMatch(LazyResult_footprint_Test::isCollected);
+        assertThat(lazy.getSuccess()).contains(PAYLOAD_SIZE);
+    }
+
+    @Test
+    void should_keep_hash_code_once_released() {
+        // Given
+        final Result<Integer, String> lazy = new LazyResult<Integer, String>(() -> success(0)).mapSuccess(x -> x);
+        final int hashCode = lazy.hashCode();
+        // When
+        lazy.getSuccess();
+        // Then
+        assertThat(lazy).hasSameHashCodeAs(hashCode).isEqualTo(lazy);
+    }
+
+    private static Result<Integer, String> capturingChain(List<WeakReference<?>> retained) {
+        final byte[] payload = new byte[PAYLOAD_SIZE];
+        final Result<Integer, String> upstream = new LazyResult<>(() -> success(0));
+        retained.add(new WeakReference<>(payload));
+        retained.add(new WeakReference<>(upstream));
+        return upstream.mapSuccess(x -> x + payload.length)
+                .filter(x -> x > 0, String::valueOf)
+                .mapSuccess(x -> x);
+    }
+
+    private static boolean isCollected(WeakReference<?> reference) {
+        for (int i = 0; i < GC_ATTEMPTS && reference.get() != null; i++) {
+            System.gc();
+            Thread.yield();
+        }
+        return reference.get() == null;
+    }
+}
@@ -19,8 +19,10 @@ package com.leakyabstractions.result.lazy;
 import static com.leakyabstractions.result.test.Results.failure;
 import static com.leakyabstractions.result.test.Results.success;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
 
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -56,4 +58,31 @@ class LazyResult_getFailure_Test {
         // Then
         assertThat(failure).containsSame(FAILURE);
     }
+
+    @Test
+    void should_skip_success_mappers() {
+        // Given
+        final Result<String, String> lazy = new LazyResult<String, String>(() -> failure(FAILURE))
+                .mapSuccess(s -> fail("Should not happen"));
+        // When
+        final Optional<String> failure = lazy.getFailure();
+        // Then
+        assertThat(failure).containsSame(FAILURE);
+        assertThat(lazy).hasToString("LazyResult[Not supplied]");
+    }
+
+    @Test
+    void should_not_skip_lazy_actions() {
+        // Given
+        final AtomicBoolean actionPerformed = new AtomicBoolean(false);
+        final LazyConsumer<String> action = f -> actionPerformed.set(true);
+        final Result<String, String> lazy = new LazyResult<String, String>(() -> failure(FAILURE))
+                .ifFailure(action)
+                .mapSuccess(s -> fail("Should not happen"));
+        // When
+        final Optional<String> failure = lazy.getFailure();
+        // Then
+        assertThat(failure).containsSame(FAILURE);
+        assertThat(actionPerformed).isTrue();
+    }
 }
@@ -19,6 +19,7 @@ package com.leakyabstractions.result.lazy;
 import static com.leakyabstractions.result.test.Results.failure;
 import static com.leakyabstractions.result.test.Results.success;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
 
 import java.util.Optional;
 
@@ -56,4 +57,16 @@ class LazyResult_getSuccess_Test {
         // Then
         assertThat(success).isEmpty();
     }
+
+    @Test
+    void should_skip_failure_mappers() {
+        // Given
+        final Result<String, String> lazy = new LazyResult<String, String>(() -> success(SUCCESS))
+                .mapFailure(f -> fail("Should not happen"));
+        // When
+        final Optional<String> success = lazy.getSuccess();
+        // Then
+        assertThat(success).containsSame(SUCCESS);
+        assertThat(lazy).hasToString("LazyResult[Not supplied]");
+    }
 }
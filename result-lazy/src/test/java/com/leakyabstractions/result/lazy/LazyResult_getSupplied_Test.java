@@ -0,0 +1,276 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link LazyResult#getSupplied()}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("LazyResult getSupplied")
+class LazyResult_getSupplied_Test {
+
+    private static final int THREADS = 8;
+    private static final int DEPTH = 100_000;
+
+    @Test
+    void should_invoke_supplier_once_when_contended() throws Exception {
+        // Given
+        final AtomicInteger invocations = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final Result<String, String> supplied = success("SUCCESS");
+        final LazyResult<String, String> lazy = new LazyResult<>(() -> {
+            invocations.incrementAndGet();
+            started.countDown();
+            sleep();
+            return supplied;
+        });
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            // When
+            final List<Future<Result<String, String>>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(lazy::getSupplied));
+                started.await();
+            }
+            // Then
+            for (Future<Result<String, String>> future : futures) {
+                assertThat(future.get()).isSameAs(supplied);
+            }
+            assertThat(invocations).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void should_wake_up_waiting_threads_when_supplier_fails() throws Exception {
+        // Given
+        final CountDownLatch started = new CountDownLatch(1);
+        final LazyResult<String, String> lazy = new LazyResult<>(() -> {
+            started.countDown();
+            sleep();
+            throw new IllegalStateException("Testing");
+        });
+        final AtomicReference<Throwable> thrown = new AtomicReference<>();
+        final Thread owner = new Thread(() -> thrown.set(catchThrowable(lazy)));
+        owner.start();
+        started.await();
+        // When
+        final Throwable waiting = catchThrowable(lazy);
+        owner.join();
+        // Then
+        assertThat(thrown.get()).isInstanceOf(IllegalStateException.class);
+        assertThat(waiting).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void should_throw_exception_when_supplier_evaluates_itself() {
+        // Given
+        final AtomicReference<LazyResult<String, String>> self = new AtomicReference<>();
+        self.set(new LazyResult<>(() -> self.get().getSupplied()));
+        // Then
+        assertThatThrownBy(self.get()::getSupplied).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void should_preserve_interrupt_status_of_waiting_threads() throws Exception {
+        // Given
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Result<String, String> supplied = success("SUCCESS");
+        final LazyResult<String, String> lazy = new LazyResult<>(() -> {
+            started.countDown();
+            await(release);
+            return supplied;
+        });
+        final Thread owner = new Thread(lazy::getSupplied);
+        owner.start();
+        started.await();
+        final AtomicReference<Result<String, String>> result = new AtomicReference<>();
+        final AtomicReference<Boolean> interrupted = new AtomicReference<>();
+        final Thread waiting = new Thread(() -> {
+            result.set(lazy.getSupplied());
+            interrupted.set(Thread.currentThread().isInterrupted());
+        });
+        waiting.start();
+        // When
+        waiting.interrupt();
+        release.countDown();
+        waiting.join();
+        owner.join();
+        // Then
+        assertThat(result.get()).isSameAs(supplied);
+        assertThat(interrupted.get()).isTrue();
+    }
+
+    @Test
+    void should_apply_each_deferred_operation_once() {
+        // Given
+        final AtomicInteger invocations = new AtomicInteger();
+        final List<Result<Integer, String>> chain = new ArrayList<>();
+        Result<Integer, String> lazy = new LazyResult<>(() -> success(0));
+        for (int i = 0; i < 20; i++) {
+            chain.add(lazy = lazy.mapSuccess(x -> invocations.incrementAndGet()));
+        }
+        // When
+        for (int i = chain.size() - 1; i >= 0; i--) {
+            chain.get(i).getSuccess();
+        }
+        // Then
+        assertThat(invocations).hasValue(20);
+        assertThat(chain.get(9).getSuccess()).contains(10);
+    }
+
+    @Test
+    void should_publish_intermediate_results() {
+        // Given
+        final Result<String, String> supplied = success("SUCCESS");
+        final LazyResult<String, String> root = new LazyResult<>(() -> supplied);
+        final Result<String, String> lazy = root.filter(s -> true, s -> s).mapSuccess(String::toLowerCase);
+        // When
+        lazy.hasSuccess();
+        // Then
+        assertThat(root).hasToString("LazyResult[%s]", supplied);
+    }
+
+    @Test
+    void should_break_downstream_results_when_an_operation_fails() {
+        // Given
+        final Result<String, String> lazy = new LazyResult<>(() -> success("SUCCESS"));
+        final Result<String, String> failing = lazy.mapSuccess(s -> {
+            throw new IllegalStateException("Testing");
+        });
+        final Result<String, String> downstream = failing.mapSuccess(String::toLowerCase);
+        // Then
+        assertThatThrownBy(downstream::getSuccess).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(failing::getSuccess).isInstanceOf(NoSuchElementException.class);
+        assertThat(lazy.getSuccess()).contains("SUCCESS");
+    }
+
+    @Test
+    void should_relay_the_exception_thrown_by_the_supplier_as_the_cause() {
+        // Given
+        final IllegalStateException exception = new IllegalStateException("Testing");
+        final LazyResult<String, String> lazy = new LazyResult<>(() -> {
+            throw exception;
+        });
+        final LazyResult<String, String> downstream = (LazyResult<String, String>) lazy.mapFailure(String::length)
+                .mapFailure(Object::toString);
+        // When
+        assertThatThrownBy(downstream::getSupplied).isSameAs(exception);
+        // Then
+        assertThatThrownBy(lazy::getSupplied).isInstanceOf(NoSuchElementException.class).hasCause(exception);
+        assertThatThrownBy(downstream::getSupplied).isInstanceOf(NoSuchElementException.class).hasCause(exception);
+    }
+
+    @Test
+    void should_not_relay_any_cause_when_the_supplied_result_was_null() {
+        // Given
+        final LazyResult<String, String> lazy = new LazyResult<>(() -> null);
+        // When
+        assertThatThrownBy(lazy::getSupplied).isInstanceOf(NoSuchElementException.class);
+        // Then
+        assertThatThrownBy(lazy::getSupplied).isInstanceOf(NoSuchElementException.class).hasNoCause();
+    }
+
+    @Test
+    void should_evaluate_deep_chains_iteratively() {
+        // Given
+        Result<Integer, String> lazy = new LazyResult<>(() -> success(0));
+        for (int i = 0; i < DEPTH; i++) {
+            lazy = lazy.mapSuccess(x -> x + 1);
+        }
+        // When
+        final Optional<Integer> success = lazy.getSuccess();
+        // Then
+        assertThat(success).contains(DEPTH);
+    }
+
+    @Test
+    void should_evaluate_deeply_nested_lazy_results_iteratively() {
+        // Given
+        Result<Integer, String> lazy = new LazyResult<>(() -> success(0));
+        for (int i = 0; i < DEPTH; i++) {
+            lazy = lazy.flatMapSuccess(x -> new LazyResult<>(() -> success(x + 1)));
+        }
+        // When
+        final Optional<Integer> success = lazy.getSuccess();
+        // Then
+        assertThat(success).contains(DEPTH);
+    }
+
+    @Test
+    void should_evaluate_lazy_results_supplied_by_lazy_results_iteratively() {
+        // Given
+        final Result<String, String> supplied = success("SUCCESS");
+        LazyResult<String, String> lazy = new LazyResult<>(() -> supplied);
+        for (int i = 0; i < DEPTH; i++) {
+            final Result<String, String> nested = lazy;
+            lazy = new LazyResult<>(() -> nested);
+        }
+        // When
+        final Result<String, String> result = lazy.getSupplied();
+        // Then
+        assertThat(result).isSameAs(supplied);
+    }
+
+    private static Throwable catchThrowable(LazyResult<?, ?> lazy) {
+        try {
+            lazy.getSupplied();
+            return null;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
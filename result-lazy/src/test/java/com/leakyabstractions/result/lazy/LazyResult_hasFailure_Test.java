@@ -19,6 +19,7 @@ package com.leakyabstractions.result.lazy;
 import static com.leakyabstractions.result.test.Results.failure;
 import static com.leakyabstractions.result.test.Results.success;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -52,4 +53,32 @@ class LazyResult_hasFailure_Test {
         // Then
         assertThat(hasFailure).isTrue();
     }
+
+    @Test
+    void should_skip_status_preserving_operations() {
+        // Given
+        final LazyConsumer<String> action = f -> fail("Should not happen");
+        final Result<String, String> lazy = new LazyResult<String, String>(() -> failure("FAILURE"))
+                .<String>mapFailure(f -> fail("Should not happen"))
+                .<String>mapSuccess(s -> fail("Should not happen"))
+                .<String, String>map(s -> fail("Should not happen"), f -> fail("Should not happen"))
+                .ifFailure(action);
+        // When
+        final boolean hasFailure = lazy.hasFailure();
+        // Then
+        assertThat(hasFailure).isTrue();
+        assertThat(lazy).hasToString("LazyResult[Not supplied]");
+    }
+
+    @Test
+    void should_not_skip_status_changing_operations() {
+        // Given
+        final Result<String, String> lazy = new LazyResult<String, String>(() -> failure("FAILURE"))
+                .mapFailure(String::toLowerCase)
+                .recover(f -> true, f -> "SUCCESS");
+        // When
+        final boolean hasFailure = lazy.hasFailure();
+        // Then
+        assertThat(hasFailure).isFalse();
+    }
 }
@@ -19,7 +19,12 @@ package com.leakyabstractions.result.lazy;
 import static com.leakyabstractions.result.test.Results.failure;
 import static com.leakyabstractions.result.test.Results.success;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.fail;
 
+import java.util.NoSuchElementException;
+
+import org.assertj.core.api.ThrowableAssert;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -52,4 +57,47 @@ class LazyResult_hasSuccess_Test {
         // Then
         assertThat(hasSuccess).isFalse();
     }
+
+    @Test
+    void should_skip_status_preserving_operations() {
+        // Given
+        final LazyConsumer<String> action = s -> fail("Should not happen");
+        final Result<String, String> lazy = new LazyResult<String, String>(() -> success("SUCCESS"))
+                .<String>mapSuccess(s -> fail("Should not happen"))
+                .<String>mapFailure(f -> fail("Should not happen"))
+                .<String, String>map(s -> fail("Should not happen"), f -> fail("Should not happen"))
+                .ifSuccess(action);
+        // When
+        final boolean hasSuccess = lazy.hasSuccess();
+        // Then
+        assertThat(hasSuccess).isTrue();
+        assertThat(lazy).hasToString("LazyResult[Not supplied]");
+    }
+
+    @Test
+    void should_not_skip_status_changing_operations() {
+        // Given
+        final Result<String, String> lazy = new LazyResult<String, String>(() -> success("SUCCESS"))
+                .mapSuccess(String::toLowerCase)
+                .filter(s -> false, s -> "FAILURE");
+        // When
+        final boolean hasSuccess = lazy.hasSuccess();
+        // Then
+        assertThat(hasSuccess).isFalse();
+    }
+
+    @Test
+    void should_not_skip_operations_that_could_not_be_evaluated() {
+        // Given
+        final Result<String, String> failing = new LazyResult<String, String>(() -> success("SUCCESS"))
+                .mapSuccess(s -> {
+                    throw new IllegalStateException("Testing");
+                });
+        final Result<String, String> lazy = failing.mapSuccess(String::toLowerCase);
+        assertThatThrownBy(failing::getSuccess).isInstanceOf(IllegalStateException.class);
+        // When
+        ThrowableAssert.ThrowingCallable callable = lazy::hasSuccess;
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(NoSuchElementException.class);
+    }
 }
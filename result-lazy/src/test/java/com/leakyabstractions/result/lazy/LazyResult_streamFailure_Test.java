@@ -20,6 +20,10 @@ import static com.leakyabstractions.result.test.Results.failure;
 import static com.leakyabstractions.result.test.Results.success;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.DisplayName;
@@ -56,4 +60,72 @@ class LazyResult_streamFailure_Test {
         // Then
         assertThat(stream).isEmpty();
     }
+
+    @Test
+    void should_not_evaluate_until_terminal_operation() {
+        // Given
+        final AtomicInteger counter = new AtomicInteger();
+        final Result<String, String> lazy = new LazyResult<>(() -> {
+            counter.incrementAndGet();
+            return failure(FAILURE);
+        });
+        // When
+        final Stream<String> stream = lazy.streamFailure().map(String::toLowerCase);
+        // Then
+        assertThat(counter).hasValue(0);
+        assertThat(stream).containsExactly("failure");
+        assertThat(counter).hasValue(1);
+    }
+
+    @Test
+    void should_evaluate_only_needed_results() {
+        // Given
+        final AtomicInteger counter = new AtomicInteger();
+        final List<Result<String, String>> results = Arrays.asList(
+                new LazyResult<>(() -> {
+                    counter.incrementAndGet();
+                    return success("OTHER");
+                }),
+                new LazyResult<>(() -> {
+                    counter.incrementAndGet();
+                    return failure(FAILURE);
+                }),
+                new LazyResult<>(() -> {
+                    counter.incrementAndGet();
+                    return failure(FAILURE);
+                }));
+        // When
+        final String first = results.stream().flatMap(Result::streamFailure).findFirst().orElse(null);
+        // Then
+        assertThat(first).isSameAs(FAILURE);
+        assertThat(counter).hasValue(2);
+    }
+
+    @Test
+    void should_return_stream_of_evaluated_result() {
+        // Given
+        final Result<String, String> lazy = new LazyResult<>(() -> failure(FAILURE));
+        lazy.hasSuccess();
+        // When
+        final Stream<String> stream = lazy.streamFailure();
+        // Then
+        assertThat(stream).singleElement().isSameAs(FAILURE);
+    }
+
+    @Test
+    void should_report_characteristics_of_deferred_stream() {
+        // Given
+        final Result<String, String> present = new LazyResult<>(() -> failure(FAILURE));
+        final Result<String, String> absent = new LazyResult<>(() -> success("SUCCESS"));
+        final int characteristics =
+                Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE;
+        // When
+        final Spliterator<String> nonEmpty = present.streamFailure().spliterator();
+        final Spliterator<String> empty = absent.streamFailure().spliterator();
+        // Then
+        assertThat(nonEmpty.characteristics()).isEqualTo(characteristics);
+        assertThat(nonEmpty.getExactSizeIfKnown()).isOne();
+        assertThat(empty.characteristics()).isEqualTo(characteristics);
+        assertThat(empty.getExactSizeIfKnown()).isZero();
+    }
 }
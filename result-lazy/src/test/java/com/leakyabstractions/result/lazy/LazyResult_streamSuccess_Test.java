@@ -20,6 +20,10 @@ import static com.leakyabstractions.result.test.Results.failure;
 import static com.leakyabstractions.result.test.Results.success;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.DisplayName;
@@ -56,4 +60,72 @@ class LazyResult_streamSuccess_Test {
         // Then
         assertThat(stream).isEmpty();
     }
+
+    @Test
+    void should_not_evaluate_until_terminal_operation() {
+        // Given
+        final AtomicInteger counter = new AtomicInteger();
+        final Result<String, String> lazy = new LazyResult<>(() -> {
+            counter.incrementAndGet();
+            return success(SUCCESS);
+        });
+        // When
+        final Stream<String> stream = lazy.streamSuccess().map(String::toLowerCase);
+        // Then
+        assertThat(counter).hasValue(0);
+        assertThat(stream).containsExactly("success");
+        assertThat(counter).hasValue(1);
+    }
+
+    @Test
+    void should_evaluate_only_needed_results() {
+        // Given
+        final AtomicInteger counter = new AtomicInteger();
+        final List<Result<String, String>> results = Arrays.asList(
+                new LazyResult<>(() -> {
+                    counter.incrementAndGet();
+                    return failure("OTHER");
+                }),
+                new LazyResult<>(() -> {
+                    counter.incrementAndGet();
+                    return success(SUCCESS);
+                }),
+                new LazyResult<>(() -> {
+                    counter.incrementAndGet();
+                    return success(SUCCESS);
+                }));
+        // When
+        final String first = results.stream().flatMap(Result::streamSuccess).findFirst().orElse(null);
+        // Then
+        assertThat(first).isSameAs(SUCCESS);
+        assertThat(counter).hasValue(2);
+    }
+
+    @Test
+    void should_return_stream_of_evaluated_result() {
+        // Given
+        final Result<String, String> lazy = new LazyResult<>(() -> success(SUCCESS));
+        lazy.hasSuccess();
+        // When
+        final Stream<String> stream = lazy.streamSuccess();
+        // Then
+        assertThat(stream).singleElement().isSameAs(SUCCESS);
+    }
+
+    @Test
+    void should_report_characteristics_of_deferred_stream() {
+        // Given
+        final Result<String, String> present = new LazyResult<>(() -> success(SUCCESS));
+        final Result<String, String> absent = new LazyResult<>(() -> failure("FAILURE"));
+        final int characteristics =
+                Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE;
+        // When
+        final Spliterator<String> nonEmpty = present.streamSuccess().spliterator();
+        final Spliterator<String> empty = absent.streamSuccess().spliterator();
+        // Then
+        assertThat(nonEmpty.characteristics()).isEqualTo(characteristics);
+        assertThat(nonEmpty.getExactSizeIfKnown()).isOne();
+        assertThat(empty.characteristics()).isEqualTo(characteristics);
+        assertThat(empty.getExactSizeIfKnown()).isZero();
+    }
 }
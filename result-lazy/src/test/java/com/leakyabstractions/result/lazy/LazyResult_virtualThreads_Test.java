@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Stress tests for {@link LazyResult} evaluated by virtual threads.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("LazyResult virtual threads")
+class LazyResult_virtualThreads_Test {
+
+    private static final int LAZY_RESULTS = 16;
+    private static final int VIRTUAL_THREADS = 10_000;
+    private static final long SUPPLIER_LATENCY = 100;
+
+    @Test
+    void should_not_pin_carrier_threads_while_waiting_for_slow_suppliers() throws Exception {
+        // Given
+        final AtomicIntegerArray invocations = new AtomicIntegerArray(LAZY_RESULTS);
+        final List<Result<Integer, String>> lazyResults = new ArrayList<>();
+        for (int i = 0; i < LAZY_RESULTS; i++) {
+            final int index = i;
+            final Result<Integer, String> lazy = new LazyResult<>(() -> {
+                invocations.incrementAndGet(index);
+                sleep();
+                return success(index);
+            });
+            lazyResults.add(lazy.mapSuccess(x -> x * 2));
+        }
+        final List<RecordedEvent> pinned;
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+            // When
+            final List<Future<Optional<Integer>>> futures = new ArrayList<>();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < VIRTUAL_THREADS; i++) {
+                    futures.add(executor.submit(lazyResults.get(i % LAZY_RESULTS)::getSuccess));
+                }
+            }
+            recording.stop();
+            for (int i = 0; i < VIRTUAL_THREADS; i++) {
+                assertThat(futures.get(i).get()).contains(i % LAZY_RESULTS * 2);
+            }
+            pinned = pinnedByLazyResults(recording);
+        }
+        // Then
+        assertThat(pinned).isEmpty();
+        for (int i = 0; i < LAZY_RESULTS; i++) {
+            assertThat(invocations.get(i)).isOne();
+        }
+    }
+
+    private static List<RecordedEvent> pinnedByLazyResults(Recording recording) throws Exception {
+        final Path file = Files.createTempFile("pinned", ".jfr");
+        try {
+            recording.dump(file);
+            final List<RecordedEvent> events = new ArrayList<>();
+            for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                if (event.getStackTrace() != null
+                        && event.getStackTrace()
+                                .getFrames()
+                                .stream()
+                                .anyMatch(LazyResult_virtualThreads_Test::isLazy)) {
+                    events.add(event);
+                }
+            }
+            return events;
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static boolean isLazy(RecordedFrame frame) {
+        return frame.getMethod().getType().getName().startsWith(LazyResult.class.getPackage().getName());
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(SUPPLIER_LATENCY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
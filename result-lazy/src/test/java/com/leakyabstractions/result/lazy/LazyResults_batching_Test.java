@@ -0,0 +1,222 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import static com.leakyabstractions.result.test.Results.failure;
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.assertj.core.api.ThrowableAssert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link LazyResults#batching(Function)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("LazyResults batching")
+class LazyResults_batching_Test {
+
+    private static final String FAILURE = "FAILURE";
+    private static final int GC_ATTEMPTS = 20;
+
+    private final List<Set<Integer>> batches = new ArrayList<>();
+
+    private ScheduledExecutorService scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void should_throw_exception_when_null_loader() {
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> LazyResults.batching(null);
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_throw_exception_when_negative_max_latency() {
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> LazyResults.batching(
+                this::load, Duration.ofMillis(-1), scheduler);
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void should_load_all_keys_at_once() {
+        // Given
+        final Function<Integer, Result<String, String>> batching = LazyResults.batching(this::load);
+        final List<Result<String, String>> results = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            results.add(batching.apply(i));
+        }
+        // When
+        final Result<String, String> result = results.get(5);
+        // Then
+        assertThat(batches).isEmpty();
+        assertThat(result.getSuccess()).contains("5");
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(results.get(9).getSuccess()).contains("9");
+        assertThat(batches).hasSize(1);
+    }
+
+    @Test
+    void should_return_same_lazy_result_for_same_key() {
+        // Given
+        final Function<Integer, Result<String, String>> batching = LazyResults.batching(this::load);
+        // When
+        final Result<String, String> result1 = batching.apply(1);
+        final Result<String, String> result2 = batching.apply(1);
+        // Then
+        assertThat(result1).isSameAs(result2);
+    }
+
+    @Test
+    void should_start_new_batch_once_loaded() {
+        // Given
+        final Function<Integer, Result<String, String>> batching = LazyResults.batching(this::load);
+        batching.apply(1).hasSuccess();
+        // When
+        final Result<String, String> result = batching.apply(2);
+        // Then
+        assertThat(result.getSuccess()).contains("2");
+        assertThat(batches).hasSize(2);
+        assertThat(batches.get(1)).containsExactly(2);
+    }
+
+    @Test
+    void should_pass_with_failure_value() {
+        // Given
+        final Function<Integer, Result<String, String>> batching = LazyResults.batching(this::load);
+        // When
+        final Result<String, String> result = batching.apply(-1);
+        // Then
+        assertThat(result.getFailure()).contains(FAILURE);
+    }
+
+    @Test
+    void should_throw_exception_when_key_not_loaded() {
+        // Given
+        final Function<Integer, Result<String, String>> batching = LazyResults.batching(keys -> new HashMap<>());
+        final Result<String, String> result = batching.apply(1);
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> result.hasSuccess();
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void should_relay_exception_to_every_lazy_result() {
+        // Given
+        final RuntimeException exception = new IllegalStateException(FAILURE);
+        final Function<Integer, Result<String, String>> batching = LazyResults.batching(keys -> {
+            throw exception;
+        });
+        final Result<String, String> result1 = batching.apply(1);
+        final Result<String, String> result2 = batching.apply(2);
+        // When
+        ThrowableAssert.ThrowingCallable callable1 = () -> result1.hasSuccess();
+        ThrowableAssert.ThrowingCallable callable2 = () -> result2.hasSuccess();
+        // Then
+        assertThatThrownBy(callable1).isSameAs(exception);
+        assertThatThrownBy(callable2).isSameAs(exception);
+    }
+
+    @Test
+    void should_load_in_background_after_max_latency() throws InterruptedException {
+        // Given
+        final CountDownLatch loaded = new CountDownLatch(1);
+        final Function<Integer, Result<String, String>> batching = LazyResults.batching(keys -> {
+            final Map<Integer, Result<String, String>> map = this.load(keys);
+            loaded.countDown();
+            return map;
+        }, Duration.ofMillis(10), scheduler);
+        // When
+        final Result<String, String> result1 = batching.apply(1);
+        final Result<String, String> result2 = batching.apply(2);
+        // Then
+        assertThat(loaded.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(result1.getSuccess()).contains("1");
+        assertThat(result2.getSuccess()).contains("2");
+        assertThat(batches).hasSize(1);
+    }
+
+    @Test
+    void should_not_retain_the_batch_once_loaded() {
+        // Given
+        final List<WeakReference<?>> retained = new ArrayList<>();
+        final Function<Integer, Result<String, String>> batching = LazyResults.batching(keys -> {
+            final Map<Integer, Result<String, String>> map = this.load(keys);
+            retained.add(new WeakReference<>(map));
+            return map;
+        });
+        final Result<String, String> result1 = batching.apply(1);
+        retained.add(new WeakReference<>(batching.apply(2)));
+        // When
+        result1.getSuccess();
+        // Then
+        assertThat(retained).hasSize(2).allMatch(LazyResults_batching_Test::isCollected);
+        assertThat(result1.getSuccess()).contains("1");
+    }
+
+    private synchronized Map<Integer, Result<String, String>> load(Set<Integer> keys) {
+        batches.add(keys);
+        final Map<Integer, Result<String, String>> map = new HashMap<>();
+        for (Integer key : keys) {
+            map.put(key, key < 0 ? failure(FAILURE) : success(String.valueOf(key)));
+        }
+        return map;
+    }
+
+    private static boolean isCollected(WeakReference<?> reference) {
+        for (int i = 0; i < GC_ATTEMPTS && reference.get() != null; i++) {
+            System.gc();
+            Thread.yield();
+        }
+        return reference.get() == null;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import static com.leakyabstractions.result.test.Results.failure;
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.assertj.core.api.ThrowableAssert;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link LazyResults#capturing(Supplier, Function)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("LazyResults capturing")
+class LazyResults_capturing_Test {
+
+    private final AtomicInteger counter = new AtomicInteger();
+    private final Supplier<Result<Integer, String>> supplier = () -> {
+        if (counter.incrementAndGet() == 1) {
+            throw new IllegalStateException("Testing");
+        }
+        return success(counter.get());
+    };
+    private final Function<RuntimeException, Result<Integer, String>> mapper = e -> failure(e.getMessage());
+
+    @Test
+    void should_throw_exception_when_null_supplier() {
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> LazyResults.capturing(null, mapper);
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_throw_exception_when_null_mapper() {
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> LazyResults.capturing(supplier, null);
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_be_lazy() {
+        // When
+        final Result<Integer, String> result = LazyResults.capturing(supplier, mapper);
+        // Then
+        assertThat(result).isInstanceOf(LazyResult.class);
+        assertThat(counter).hasValue(0);
+    }
+
+    @Test
+    void should_use_supplied_result() {
+        // Given
+        counter.set(1);
+        final Result<Integer, String> result = LazyResults.capturing(supplier, mapper);
+        // When
+        final boolean hasSuccess = result.hasSuccess();
+        // Then
+        assertThat(hasSuccess).isTrue();
+        assertThat(result.getSuccess()).contains(2);
+    }
+
+    @Test
+    void should_capture_exceptions_into_failures() {
+        // Given
+        final Result<Integer, String> result = LazyResults.capturing(supplier, mapper);
+        // When
+        final boolean hasFailure = result.hasFailure();
+        // Then
+        assertThat(hasFailure).isTrue();
+        assertThat(result.getFailure()).contains("Testing");
+    }
+
+    @Test
+    void should_memoize_captured_failures() {
+        // Given
+        final Result<Integer, String> result = LazyResults.capturing(supplier, mapper);
+        // When
+        result.hasFailure();
+        final boolean hasFailure = result.hasFailure();
+        // Then
+        assertThat(hasFailure).isTrue();
+        assertThat(counter).hasValue(1);
+    }
+
+    @Test
+    void should_relay_errors() {
+        // Given
+        final AssertionError error = new AssertionError("Testing");
+        final Result<Integer, String> result = LazyResults.capturing(() -> {
+            throw error;
+        }, mapper);
+        // When
+        ThrowableAssert.ThrowingCallable callable = result::hasSuccess;
+        // Then
+        assertThatThrownBy(callable).isSameAs(error);
+    }
+
+    @Test
+    void should_relay_exceptions_thrown_by_mapper_as_the_cause() {
+        // Given
+        final IllegalArgumentException exception = new IllegalArgumentException("Testing");
+        final Result<Integer, String> result = LazyResults.capturing(supplier, e -> {
+            throw exception;
+        });
+        // When
+        assertThatThrownBy(result::hasSuccess).isSameAs(exception);
+        // Then
+        assertThatThrownBy(result::hasSuccess).isInstanceOf(NoSuchElementException.class).hasCause(exception);
+    }
+}
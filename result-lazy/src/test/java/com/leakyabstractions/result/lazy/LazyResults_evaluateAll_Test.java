@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.assertj.core.api.ThrowableAssert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link LazyResults#evaluateAll(Collection, Executor, int)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("LazyResults evaluateAll")
+class LazyResults_evaluateAll_Test {
+
+    private static final String SUCCESS = "SUCCESS";
+    private static final String FAILURE = "FAILURE";
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void should_throw_exception_when_null_results() {
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> LazyResults.evaluateAll(null, executor, 1);
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_throw_exception_when_null_element() {
+        // Given
+        final List<Result<String, String>> results = Arrays.asList(success(SUCCESS), null);
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> LazyResults.evaluateAll(results, executor, 1);
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_throw_exception_when_null_executor() {
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> LazyResults.evaluateAll(new ArrayList<>(), null, 1);
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_throw_exception_when_parallelism_is_not_positive() {
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> LazyResults.evaluateAll(new ArrayList<>(), executor, 0);
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void should_evaluate_every_lazy_result() {
+        // Given
+        final AtomicInteger counter = new AtomicInteger();
+        final List<Result<String, String>> results = lazyResults(100, () -> {
+            counter.incrementAndGet();
+            return success(SUCCESS);
+        });
+        // When
+        LazyResults.evaluateAll(results, executor, 4);
+        // Then
+        assertThat(counter).hasValue(100);
+        assertThat(results).allMatch(result -> ((LazyResult<?, ?>) result).isSupplied());
+    }
+
+    @Test
+    void should_not_exceed_parallelism() {
+        // Given
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger max = new AtomicInteger();
+        final List<Result<String, String>> results = lazyResults(100, () -> {
+            max.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            return success(SUCCESS);
+        });
+        // When
+        LazyResults.evaluateAll(results, executor, 3);
+        // Then
+        assertThat(max.get()).isBetween(1, 3);
+    }
+
+    @Test
+    void should_skip_lazy_results_already_evaluated() {
+        // Given
+        final AtomicInteger counter = new AtomicInteger();
+        final List<Result<String, String>> results = lazyResults(10, () -> {
+            counter.incrementAndGet();
+            return success(SUCCESS);
+        });
+        results.forEach(Result::hasSuccess);
+        // When
+        LazyResults.evaluateAll(results, command -> {
+            throw new AssertionError("Should not submit any task");
+        }, 4);
+        // Then
+        assertThat(counter).hasValue(10);
+    }
+
+    @Test
+    void should_relay_first_exception_with_the_rest_suppressed() {
+        // Given
+        final AtomicInteger counter = new AtomicInteger();
+        final List<Result<String, String>> results = lazyResults(10, () -> {
+            if (counter.incrementAndGet() % 5 == 0) {
+                throw new IllegalStateException(FAILURE);
+            }
+            return success(SUCCESS);
+        });
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> LazyResults.evaluateAll(results, executor, 4);
+        // Then
+        assertThatThrownBy(callable)
+                .isInstanceOf(IllegalStateException.class)
+                .satisfies(e -> assertThat(e.getSuppressed()).hasSize(1));
+        assertThat(counter).hasValue(10);
+    }
+
+    private static List<Result<String, String>> lazyResults(int size, Supplier<Result<String, String>> supplier) {
+        final List<Result<String, String>> results = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            results.add(LazyResults.ofSupplier(() -> supplier.get()));
+        }
+        return results;
+    }
+}
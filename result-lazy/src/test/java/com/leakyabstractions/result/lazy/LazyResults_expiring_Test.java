@@ -0,0 +1,223 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.assertj.core.api.ThrowableAssert;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link LazyResults#expiring(Supplier, Duration)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("LazyResults expiring")
+class LazyResults_expiring_Test {
+
+    private static final long TTL = 1000;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger counter = new AtomicInteger();
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final Executor executor = tasks::add;
+    private final Supplier<Result<Integer, String>> supplier = () -> success(counter.incrementAndGet());
+
+    @Test
+    void should_throw_exception_when_null_supplier() {
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> LazyResults.expiring(null, Duration.ofSeconds(1));
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_throw_exception_when_null_ttl() {
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> LazyResults.expiring(supplier, null);
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_throw_exception_when_ttl_is_not_positive() {
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> LazyResults.expiring(supplier, Duration.ZERO);
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void should_throw_exception_when_null_executor() {
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> LazyResults.expiring(supplier, Duration.ofSeconds(1), null);
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_be_lazy() {
+        // When
+        final Result<Integer, String> result = LazyResults.expiring(supplier, Duration.ofSeconds(1));
+        // Then
+        assertThat(counter).hasValue(0);
+        assertThat(result).hasToString("ExpiringResult[Not supplied]");
+    }
+
+    @Test
+    void should_reuse_result_until_expired() {
+        // Given
+        final Result<Integer, String> result = new ExpiringResult<>(supplier, TTL, null, clock::get);
+        result.hasSuccess();
+        // When
+        clock.addAndGet(TTL - 1);
+        final Integer value = result.orElse(null);
+        // Then
+        assertThat(value).isEqualTo(1);
+        assertThat(counter).hasValue(1);
+    }
+
+    @Test
+    void should_evaluate_again_when_expired() {
+        // Given
+        final Result<Integer, String> result = new ExpiringResult<>(supplier, TTL, null, clock::get);
+        result.hasSuccess();
+        // When
+        clock.addAndGet(TTL);
+        final Integer value = result.orElse(null);
+        // Then
+        assertThat(value).isEqualTo(2);
+        assertThat(counter).hasValue(2);
+    }
+
+    @Test
+    void should_evaluate_again_when_supplier_fails() {
+        // Given
+        final Supplier<Result<Integer, String>> failing = () -> {
+            if (counter.incrementAndGet() == 1) {
+                throw new IllegalStateException();
+            }
+            return success(counter.get());
+        };
+        final Result<Integer, String> result = new ExpiringResult<>(failing, TTL, null, clock::get);
+        assertThatThrownBy(result::hasSuccess).isInstanceOf(IllegalStateException.class);
+        // When
+        final Integer value = result.orElse(null);
+        // Then
+        assertThat(value).isEqualTo(2);
+    }
+
+    @Test
+    void should_use_stale_result_while_refreshing() {
+        // Given
+        final Result<Integer, String> result = new ExpiringResult<>(supplier, TTL, executor, clock::get);
+        result.hasSuccess();
+        clock.addAndGet(TTL);
+        // When
+        final Integer stale1 = result.orElse(null);
+        final Integer stale2 = result.orElse(null);
+        // Then
+        assertThat(stale1).isEqualTo(1);
+        assertThat(stale2).isEqualTo(1);
+        assertThat(tasks).hasSize(1);
+        tasks.get(0).run();
+        assertThat(result.orElse(null)).isEqualTo(2);
+        assertThat(counter).hasValue(2);
+    }
+
+    @Test
+    void should_keep_stale_result_when_refresh_fails() {
+        // Given
+        final Supplier<Result<Integer, String>> failing = () -> {
+            if (counter.incrementAndGet() == 2) {
+                throw new IllegalStateException();
+            }
+            return success(counter.get());
+        };
+        final Result<Integer, String> result = new ExpiringResult<>(failing, TTL, executor, clock::get);
+        result.hasSuccess();
+        clock.addAndGet(TTL);
+        result.hasSuccess();
+        assertThatThrownBy(() -> tasks.get(0).run()).isInstanceOf(IllegalStateException.class);
+        // When
+        final Integer stale = result.orElse(null);
+        // Then
+        assertThat(stale).isEqualTo(1);
+        assertThat(tasks).hasSize(2);
+        tasks.get(1).run();
+        assertThat(result.orElse(null)).isEqualTo(3);
+    }
+
+    @Test
+    void should_apply_deferred_operations_to_current_result() {
+        // Given
+        final Result<Integer, String> result = new ExpiringResult<>(supplier, TTL, null, clock::get);
+        final Result<Integer, String> mapped1 = result.mapSuccess(x -> x * 10);
+        mapped1.getSuccess();
+        clock.addAndGet(TTL);
+        // When
+        final Result<Integer, String> mapped2 = result.mapSuccess(x -> x * 10);
+        // Then
+        assertThat(mapped1.orElse(null)).isEqualTo(20);
+        assertThat(mapped2.orElse(null)).isEqualTo(20);
+        assertThat(counter).hasValue(2);
+    }
+
+    @Test
+    void should_refresh_derived_results_once_expired() {
+        // Given
+        final AtomicInteger mappings = new AtomicInteger();
+        final Result<String, String> result = new ExpiringResult<>(supplier, TTL, null, clock::get)
+                .mapSuccess(x -> x * 10)
+                .filter(x -> true, x -> "FAILURE")
+                .mapSuccess(x -> mappings.incrementAndGet() + ":" + x);
+        final String first = result.orElse(null);
+        final String cached = result.orElse(null);
+        // When
+        clock.addAndGet(TTL);
+        final String refreshed = result.orElse(null);
+        // Then
+        assertThat(first).isEqualTo("1:10");
+        assertThat(cached).isEqualTo("1:10");
+        assertThat(refreshed).isEqualTo("2:20");
+        assertThat(mappings).hasValue(2);
+    }
+
+    @Test
+    void should_return_expected_string_when_supplied() {
+        // Given
+        final Result<Integer, String> supplied = success(1);
+        final Result<Integer, String> result = LazyResults.expiring(() -> supplied, Duration.ofSeconds(1));
+        // When
+        result.hasSuccess();
+        // Then
+        assertThat(result).hasToString("ExpiringResult[%s]", supplied);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import static com.leakyabstractions.result.test.Results.failure;
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToDoubleFunction;
+
+import org.assertj.core.api.ThrowableAssert;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link LazyResults#mapToDouble(Result, ToDoubleFunction)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("LazyResults mapToDouble")
+class LazyResults_mapToDouble_Test {
+
+    private static final String SUCCESS = "SUCCESS";
+    private static final String FAILURE = "FAILURE";
+
+    @Test
+    void should_throw_exception_when_null_mapper() {
+        // Given
+        final Result<String, String> result = success(SUCCESS);
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> LazyResults.mapToDouble(result, null);
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_be_lazy() {
+        // Given
+        final AtomicInteger counter = new AtomicInteger();
+        final Result<String, String> lazy = LazyResults.ofSupplier(() -> {
+            counter.incrementAndGet();
+            return success(SUCCESS);
+        });
+        // When
+        final LazyDoubleResult<String> result = LazyResults.mapToDouble(lazy, String::length).mapSuccess(x -> x / 2);
+        // Then
+        assertThat(counter).hasValue(0);
+        assertThat(result).hasToString("LazyDoubleResult[Not supplied]");
+    }
+
+    @Test
+    void should_map_success() {
+        // Given
+        final Result<String, String> result = success(SUCCESS);
+        // When
+        final LazyDoubleResult<String> lazy = LazyResults.mapToDouble(result, String::length).mapSuccess(x -> x / 2);
+        // Then
+        assertThat(lazy.getSuccess()).hasValue(3.5);
+        assertThat(lazy.orElse(0.0)).isEqualTo(3.5);
+    }
+
+    @Test
+    void should_carry_over_failure() {
+        // Given
+        final Result<String, String> result = failure(FAILURE);
+        // When
+        final LazyDoubleResult<String> lazy = LazyResults.mapToDouble(result, String::length)
+                .mapSuccess(x -> fail("Should not happen"));
+        // Then
+        assertThat(lazy.getFailure()).containsSame(FAILURE);
+        assertThat(lazy.orElse(0.0)).isZero();
+        assertThat(lazy).hasToString("LazyDoubleResult[Failure: FAILURE]");
+    }
+}
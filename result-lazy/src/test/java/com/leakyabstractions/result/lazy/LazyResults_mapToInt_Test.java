@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import static com.leakyabstractions.result.test.Results.failure;
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToIntFunction;
+
+import org.assertj.core.api.ThrowableAssert;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link LazyResults#mapToInt(Result, ToIntFunction)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("LazyResults mapToInt")
+class LazyResults_mapToInt_Test {
+
+    private static final String SUCCESS = "SUCCESS";
+    private static final String FAILURE = "FAILURE";
+
+    @Test
+    void should_throw_exception_when_null_result() {
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> LazyResults.mapToInt(null, String::length);
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_throw_exception_when_null_mapper() {
+        // Given
+        final Result<String, String> result = success(SUCCESS);
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> LazyResults.mapToInt(result, null);
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_be_lazy() {
+        // Given
+        final AtomicInteger counter = new AtomicInteger();
+        final Result<String, String> lazy = LazyResults.ofSupplier(() -> {
+            counter.incrementAndGet();
+            return success(SUCCESS);
+        });
+        // When
+        final LazyIntResult<String> result = LazyResults.mapToInt(lazy, String::length).mapSuccess(x -> x * 2);
+        // Then
+        assertThat(counter).hasValue(0);
+        assertThat(result).hasToString("LazyIntResult[Not supplied]");
+    }
+
+    @Test
+    void should_map_success() {
+        // Given
+        final Result<String, String> result = success(SUCCESS);
+        // When
+        final LazyIntResult<String> lazy = LazyResults.mapToInt(result, String::length).mapSuccess(x -> x * 2);
+        // Then
+        assertThat(lazy.hasSuccess()).isTrue();
+        assertThat(lazy.getSuccess()).hasValue(14);
+        assertThat(lazy.orElse(0)).isEqualTo(14);
+        assertThat(lazy).hasToString("LazyIntResult[Success: 14]");
+    }
+
+    @Test
+    void should_carry_over_failure() {
+        // Given
+        final Result<String, String> result = failure(FAILURE);
+        // When
+        final LazyIntResult<String> lazy = LazyResults.mapToInt(result, String::length)
+                .mapSuccess(x -> fail("Should not happen"));
+        // Then
+        assertThat(lazy.hasFailure()).isTrue();
+        assertThat(lazy.getFailure()).containsSame(FAILURE);
+        assertThat(lazy.getSuccess()).isEmpty();
+        assertThat(lazy.orElse(0)).isZero();
+        assertThat(lazy.orElseMap(String::length)).isEqualTo(FAILURE.length());
+    }
+
+    @Test
+    void should_convert_to_other_primitive_types() {
+        // Given
+        final Result<String, String> result = success(SUCCESS);
+        // When
+        final LazyIntResult<String> lazy = LazyResults.mapToInt(result, String::length)
+                .mapToLong(x -> x * 1_000_000_000L)
+                .mapToDouble(x -> x / 2.0)
+                .mapToInt(x -> (int) (x / 1_000_000_000));
+        // Then
+        assertThat(lazy.orElse(0)).isEqualTo(3);
+    }
+
+    @Test
+    void should_evaluate_long_chains() {
+        // Given
+        final Result<String, String> result = success(SUCCESS);
+        LazyIntResult<String> lazy = LazyResults.mapToInt(result, x -> 0);
+        for (int i = 0; i < 100_000; i++) {
+            lazy = lazy.mapSuccess(x -> x + 1);
+        }
+        // When
+        final int value = lazy.orElse(0);
+        // Then
+        assertThat(value).isEqualTo(100_000);
+    }
+
+    @Test
+    void should_not_evaluate_again_when_mapper_throws_exception() {
+        // Given
+        final Result<String, String> result = success(SUCCESS);
+        final LazyIntResult<String> lazy = LazyResults.mapToInt(result, String::length)
+                .mapSuccess(x -> {
+                    throw new IllegalStateException(FAILURE);
+                })
+                .mapSuccess(x -> x + 1);
+        // When
+        ThrowableAssert.ThrowingCallable first = lazy::hasSuccess;
+        ThrowableAssert.ThrowingCallable second = lazy::hasSuccess;
+        // Then
+        assertThatThrownBy(first).isInstanceOf(IllegalStateException.class).hasMessage(FAILURE);
+        assertThatThrownBy(second)
+                .isInstanceOf(NoSuchElementException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void should_throw_exception_when_mapper_evaluates_its_own_result() {
+        // Given
+        final Result<String, String> result = success(SUCCESS);
+        final AtomicReference<LazyIntResult<String>> self = new AtomicReference<>();
+        self.set(LazyResults.mapToInt(result, String::length).mapSuccess(x -> self.get().orElse(x)));
+        // When
+        ThrowableAssert.ThrowingCallable callable = self.get()::hasSuccess;
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(NoSuchElementException.class);
+    }
+}
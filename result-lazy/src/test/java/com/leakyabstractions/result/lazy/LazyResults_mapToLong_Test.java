@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import static com.leakyabstractions.result.test.Results.failure;
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToLongFunction;
+
+import org.assertj.core.api.ThrowableAssert;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link LazyResults#mapToLong(Result, ToLongFunction)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("LazyResults mapToLong")
+class LazyResults_mapToLong_Test {
+
+    private static final String SUCCESS = "SUCCESS";
+    private static final String FAILURE = "FAILURE";
+
+    @Test
+    void should_throw_exception_when_null_mapper() {
+        // Given
+        final Result<String, String> result = success(SUCCESS);
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> LazyResults.mapToLong(result, null);
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_be_lazy() {
+        // Given
+        final AtomicInteger counter = new AtomicInteger();
+        final Result<String, String> lazy = LazyResults.ofSupplier(() -> {
+            counter.incrementAndGet();
+            return success(SUCCESS);
+        });
+        // When
+        final LazyLongResult<String> result =
+                LazyResults.mapToLong(lazy, String::length).mapSuccess(x -> x * 1_000_000_000L);
+        // Then
+        assertThat(counter).hasValue(0);
+        assertThat(result).hasToString("LazyLongResult[Not supplied]");
+    }
+
+    @Test
+    void should_map_success() {
+        // Given
+        final Result<String, String> result = success(SUCCESS);
+        // When
+        final LazyLongResult<String> lazy =
+                LazyResults.mapToLong(result, String::length).mapSuccess(x -> x * 1_000_000_000L);
+        // Then
+        assertThat(lazy.getSuccess()).hasValue(7_000_000_000L);
+        assertThat(lazy.orElse(0L)).isEqualTo(7_000_000_000L);
+    }
+
+    @Test
+    void should_carry_over_failure() {
+        // Given
+        final Result<String, String> result = failure(FAILURE);
+        // When
+        final LazyLongResult<String> lazy = LazyResults.mapToLong(result, String::length)
+                .mapSuccess(x -> fail("Should not happen"));
+        // Then
+        assertThat(lazy.getFailure()).containsSame(FAILURE);
+        assertThat(lazy.orElse(0L)).isZero();
+        assertThat(lazy).hasToString("LazyLongResult[Failure: FAILURE]");
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import static com.leakyabstractions.result.test.Results.failure;
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.assertj.core.api.ThrowableAssert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link LazyResults#ofAsync(Supplier, Executor)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("LazyResults ofAsync")
+class LazyResults_ofAsync_Test {
+
+    private static final String SUCCESS = "SUCCESS";
+    private static final String FAILURE = "FAILURE";
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void should_throw_exception_when_null_supplier() {
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> LazyResults.ofAsync(null, executor);
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_throw_exception_when_null_executor() {
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> LazyResults.ofAsync(() -> success(SUCCESS), null);
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_pass_with_success_value() {
+        // Given
+        final Supplier<Result<String, Integer>> supplier = () -> success(SUCCESS);
+        // When
+        final Result<String, Integer> result = LazyResults.ofAsync(supplier, executor);
+        // Then
+        assertThat(result.getSuccess()).containsSame(SUCCESS);
+    }
+
+    @Test
+    void should_pass_with_failure_value() {
+        // Given
+        final Supplier<Result<Integer, String>> supplier = () -> failure(FAILURE);
+        // When
+        final Result<Integer, String> result = LazyResults.ofAsync(supplier, executor);
+        // Then
+        assertThat(result.getFailure()).containsSame(FAILURE);
+    }
+
+    @Test
+    void should_invoke_supplier_with_executor() throws InterruptedException {
+        // Given
+        final AtomicReference<Thread> thread = new AtomicReference<>();
+        final CountDownLatch invoked = new CountDownLatch(1);
+        final Supplier<Result<String, String>> supplier = () -> {
+            thread.set(Thread.currentThread());
+            invoked.countDown();
+            return success(SUCCESS);
+        };
+        // When
+        LazyResults.ofAsync(supplier, executor);
+        // Then
+        assertThat(invoked.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(thread.get()).isNotSameAs(Thread.currentThread());
+    }
+
+    @Test
+    void should_relay_exception_thrown_by_supplier() {
+        // Given
+        final RuntimeException exception = new IllegalStateException(FAILURE);
+        final Supplier<Result<String, String>> supplier = () -> {
+            throw exception;
+        };
+        final Result<String, String> result = LazyResults.ofAsync(supplier, executor);
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> result.hasSuccess();
+        // Then
+        assertThatThrownBy(callable).isSameAs(exception);
+    }
+
+    @Test
+    void should_throw_exception_when_supplier_returns_null() {
+        // Given
+        final Result<String, String> result = LazyResults.ofAsync(() -> null, executor);
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> result.hasSuccess();
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(NoSuchElementException.class);
+    }
+}
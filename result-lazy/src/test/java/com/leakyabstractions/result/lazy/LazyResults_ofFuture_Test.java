@@ -0,0 +1,221 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import static com.leakyabstractions.result.test.Results.failure;
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.assertj.core.api.ThrowableAssert;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link LazyResults#ofFuture(CompletionStage)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("LazyResults ofFuture")
+class LazyResults_ofFuture_Test {
+
+    private static final String SUCCESS = "SUCCESS";
+    private static final String FAILURE = "FAILURE";
+
+    @Test
+    void should_throw_exception_when_null_stage() {
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> LazyResults.ofFuture(null);
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_pass_with_success_value() {
+        // Given
+        final CompletableFuture<Result<String, Integer>> future = CompletableFuture.completedFuture(success(SUCCESS));
+        // When
+        final Result<String, Integer> result = LazyResults.ofFuture(future);
+        // Then
+        assertThat(result.getSuccess()).containsSame(SUCCESS);
+    }
+
+    @Test
+    void should_pass_with_failure_value() {
+        // Given
+        final CompletableFuture<Result<Integer, String>> future = CompletableFuture.completedFuture(failure(FAILURE));
+        // When
+        final Result<Integer, String> result = LazyResults.ofFuture(future);
+        // Then
+        assertThat(result.getFailure()).containsSame(FAILURE);
+    }
+
+    @Test
+    void should_complete_when_stage_completes() {
+        // Given
+        final CompletableFuture<Result<String, String>> future = new CompletableFuture<>();
+        final AsyncResult<String, String> result = LazyResults.ofFuture(future);
+        final CompletableFuture<Result<String, String>> completable = result.toCompletableFuture();
+        // When
+        final boolean before = completable.isDone();
+        future.complete(success(SUCCESS));
+        // Then
+        assertThat(before).isFalse();
+        assertThat(completable).isCompleted();
+        assertThat(result.getSuccess()).containsSame(SUCCESS);
+    }
+
+    @Test
+    void should_not_be_completed_by_callers() {
+        // Given
+        final CompletableFuture<Result<String, String>> future = new CompletableFuture<>();
+        final AsyncResult<String, String> result = LazyResults.ofFuture(future);
+        // When
+        result.toCompletableFuture().complete(failure(FAILURE));
+        future.complete(success(SUCCESS));
+        // Then
+        assertThat(result.getSuccess()).containsSame(SUCCESS);
+    }
+
+    @Test
+    void should_relay_exception_when_stage_completes_exceptionally() {
+        // Given
+        final RuntimeException exception = new IllegalStateException(FAILURE);
+        final CompletableFuture<Result<String, String>> future = new CompletableFuture<>();
+        future.completeExceptionally(exception);
+        final Result<String, String> result = LazyResults.ofFuture(future);
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> result.getSuccess();
+        // Then
+        assertThatThrownBy(callable).isSameAs(exception);
+    }
+
+    @Test
+    void should_not_apply_deferred_operations_to_null_results() {
+        // Given
+        final AsyncResult<String, String> async = LazyResults.ofFuture(CompletableFuture.completedFuture(null));
+        final Result<Integer, String> result = async.mapSuccess(String::length);
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> result.getSuccess();
+        // Then
+        assertThatThrownBy(callable)
+                .isInstanceOf(NoSuchElementException.class)
+                .hasMessage("The supplied result was null");
+    }
+
+    @Test
+    void should_not_block_when_deferred_operations_are_applied() {
+        // Given
+        final AtomicInteger counter = new AtomicInteger();
+        final Function<String, String> mapper = s -> s + counter.incrementAndGet();
+        final Consumer<String> action = s -> counter.incrementAndGet();
+        final CompletableFuture<Result<String, String>> future = new CompletableFuture<>();
+        final AsyncResult<String, String> async = LazyResults.ofFuture(future);
+        // When
+        final AsyncResult<String, String> result = async
+                .mapSuccess(mapper)
+                .filter(s -> true, s -> FAILURE)
+                .flatMapSuccess(s -> success(s + counter.incrementAndGet()))
+                .ifSuccess(action);
+        // Then
+        assertThat(counter).hasValue(0);
+        assertThat(result.toCompletableFuture()).isNotDone();
+        future.complete(success(SUCCESS));
+        assertThat(result.getSuccess()).contains(SUCCESS + "12");
+        assertThat(counter).hasValue(3);
+    }
+
+    @Test
+    void should_compose_nested_async_results() {
+        // Given
+        final CompletableFuture<Result<String, String>> outer = new CompletableFuture<>();
+        final CompletableFuture<Result<String, String>> inner = new CompletableFuture<>();
+        final AsyncResult<String, String> async = LazyResults.ofFuture(outer);
+        // When
+        final AsyncResult<String, String> result = async.flatMapSuccess(s -> LazyResults.ofFuture(inner));
+        outer.complete(success(SUCCESS));
+        // Then
+        final CompletableFuture<Result<String, String>> completable = result.toCompletableFuture();
+        assertThat(completable).isNotDone();
+        inner.complete(failure(FAILURE));
+        assertThat(completable).isCompleted();
+        assertThat(result.getFailure()).containsSame(FAILURE);
+    }
+
+    @Test
+    void should_map_failure() {
+        // Given
+        final AsyncResult<String, String> async = LazyResults.ofFuture(
+                CompletableFuture.completedFuture(failure(FAILURE)));
+        // When
+        final Result<String, Integer> result = async.mapFailure(String::length);
+        // Then
+        assertThat(result.getFailure()).contains(FAILURE.length());
+    }
+
+    @Test
+    void should_recover() {
+        // Given
+        final AsyncResult<String, String> async = LazyResults.ofFuture(
+                CompletableFuture.completedFuture(failure(FAILURE)));
+        // When
+        final Result<String, String> result = async.recover(f -> true, f -> SUCCESS);
+        // Then
+        assertThat(result.getSuccess()).containsSame(SUCCESS);
+    }
+
+    @Test
+    void should_be_equal_when_backed_by_same_future() {
+        // Given
+        final CompletableFuture<Result<String, String>> future = new CompletableFuture<>();
+        final FutureResult<String, String> async1 = new FutureResult<>(future);
+        final FutureResult<String, String> async2 = new FutureResult<>(future);
+        // Then
+        assertThat(async1).isEqualTo(async2).hasSameHashCodeAs(async2);
+        assertThat(async1).isNotEqualTo(LazyResults.ofFuture(future));
+    }
+
+    @Test
+    void should_print_not_completed() {
+        // Given
+        final AsyncResult<String, String> async = LazyResults.ofFuture(new CompletableFuture<>());
+        // When
+        final String result = async.toString();
+        // Then
+        assertThat(result).isEqualTo("AsyncResult[Not completed]");
+    }
+
+    @Test
+    void should_print_completed_result() {
+        // Given
+        final Result<String, String> success = success(SUCCESS);
+        final AsyncResult<String, String> async = LazyResults.ofFuture(CompletableFuture.completedFuture(success));
+        // When
+        final String result = async.toString();
+        // Then
+        assertThat(result).isEqualTo("AsyncResult[" + success + "]");
+    }
+}
@@ -21,16 +21,27 @@ import static com.leakyabstractions.result.test.Results.success;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.api.Assertions.fail;
 import static org.assertj.core.api.InstanceOfAssertFactories.OPTIONAL;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import org.assertj.core.api.ThrowableAssert;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import com.leakyabstractions.result.api.Result;
 
@@ -143,4 +154,103 @@ class LazyResults_ofSupplier_Test {
         assertThatThrownBy(lazy::getSupplied).isInstanceOf(NoSuchElementException.class);
         assertThatThrownBy(lazy::getSupplied).isInstanceOf(NoSuchElementException.class);
     }
+
+    @Test
+    void should_throw_same_exception_every_time_once_broken() {
+        // Given
+        final RuntimeException exception = new IllegalArgumentException("Testing");
+        final Supplier<Result<String, Long>> supplier = () -> {
+            throw exception;
+        };
+        final LazyResult<String, ?> lazy = (LazyResult<String, ?>) LazyResults.ofSupplier(supplier);
+        assertThatThrownBy(lazy::getSupplied).isSameAs(exception);
+        // When
+        final Throwable first = catchThrowable(lazy::getSupplied);
+        final Throwable second = catchThrowable(lazy::getSupplied);
+        // Then
+        assertThat(first).isInstanceOf(NoSuchElementException.class).hasCause(exception).isSameAs(second);
+    }
+
+    @Test
+    void should_throw_exception_when_null_mode() {
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> LazyResults.ofSupplier(() -> success(SUCCESS), null);
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(NullPointerException.class);
+    }
+
+    @ParameterizedTest
+    @EnumSource(LazyThreadSafetyMode.class)
+    void should_pass_with_success_value_in_any_mode(LazyThreadSafetyMode mode) {
+        // Given
+        final Supplier<Result<String, Integer>> supplier = () -> success(SUCCESS);
+        // When
+        final Result<String, Integer> lazy = LazyResults.ofSupplier(supplier, mode);
+        // Then
+        assertThat(lazy)
+                .isInstanceOf(LazyResult.class)
+                .extracting("success", OPTIONAL)
+                .containsSame(SUCCESS);
+    }
+
+    @ParameterizedTest
+    @EnumSource(LazyThreadSafetyMode.class)
+    void should_inherit_mode_when_deferring_operations(LazyThreadSafetyMode mode) {
+        // Given
+        final AtomicInteger invocations = new AtomicInteger();
+        final Result<String, Integer> lazy = LazyResults.ofSupplier(() -> success(SUCCESS), mode);
+        // When
+        final Result<String, Integer> result = lazy.mapSuccess(s -> s + invocations.incrementAndGet());
+        // Then
+        assertThat(result).isInstanceOf(LazyResult.class).hasToString("LazyResult[Not supplied]");
+        assertThat(result.getSuccess()).contains(SUCCESS + 1);
+        assertThat(result.getSuccess()).contains(SUCCESS + 1);
+        assertThat(invocations).hasValue(1);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = LazyThreadSafetyMode.class, names = {"PUBLICATION", "NONE"})
+    void should_invoke_supplier_again_when_it_fails(LazyThreadSafetyMode mode) {
+        // Given
+        final AtomicBoolean alreadyInvoked = new AtomicBoolean();
+        final Supplier<Result<String, Long>> supplier = () -> {
+            if (!alreadyInvoked.getAndSet(true)) {
+                throw new IllegalArgumentException("Testing");
+            }
+            return success(SUCCESS);
+        };
+        final LazyResult<String, ?> lazy = (LazyResult<String, ?>) LazyResults.ofSupplier(supplier, mode);
+        // Then
+        assertThatThrownBy(lazy::getSupplied).isInstanceOf(IllegalArgumentException.class);
+        assertThat(lazy.getSupplied()).extracting("success", OPTIONAL).containsSame(SUCCESS);
+    }
+
+    @Test
+    void should_publish_first_result_when_publication_mode() throws Exception {
+        // Given
+        final int threads = 8;
+        final AtomicInteger invocations = new AtomicInteger();
+        final CyclicBarrier barrier = new CyclicBarrier(threads);
+        final Result<Integer, String> lazy = LazyResults.ofSupplier(
+                () -> success(invocations.incrementAndGet()), LazyThreadSafetyMode.PUBLICATION);
+        final Result<Integer, String> mapped = lazy.mapSuccess(x -> x * 10);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            // When
+            final List<Future<Optional<Integer>>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    barrier.await();
+                    return mapped.getSuccess();
+                }));
+            }
+            // Then
+            final Integer published = lazy.getSuccess().orElse(null);
+            for (Future<Optional<Integer>> future : futures) {
+                assertThat(future.get()).contains(published * 10);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.ThrowableAssert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link LazyResults#prefetchAll(Collection, Executor)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("LazyResults prefetchAll")
+class LazyResults_prefetchAll_Test {
+
+    private static final String SUCCESS = "SUCCESS";
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void should_throw_exception_when_null_results() {
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> LazyResults.prefetchAll(null, executor);
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_throw_exception_when_null_element() {
+        // Given
+        final CountDownLatch invoked = new CountDownLatch(1);
+        final Result<String, String> lazy = LazyResults.ofSupplier(() -> {
+            invoked.countDown();
+            return success(SUCCESS);
+        });
+        final List<Result<String, String>> results = Arrays.asList(lazy, null);
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> LazyResults.prefetchAll(results, executor);
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(NullPointerException.class);
+        assertThat(invoked.getCount()).isOne();
+    }
+
+    @Test
+    void should_throw_exception_when_null_executor() {
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> LazyResults.prefetchAll(new ArrayList<>(), null);
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_evaluate_lazy_results_in_parallel() throws InterruptedException {
+        // Given
+        final int size = 4;
+        final CountDownLatch started = new CountDownLatch(size);
+        final List<Result<String, String>> results = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            results.add(LazyResults.ofSupplier(() -> {
+                started.countDown();
+                try {
+                    // Every supplier waits for the others to start
+                    started.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return success(SUCCESS);
+            }));
+        }
+        // When
+        LazyResults.prefetchAll(results, executor);
+        // Then
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(results).allMatch(Result::hasSuccess);
+    }
+
+    @Test
+    void should_skip_results_that_are_not_lazy() {
+        // Given
+        final List<Result<String, String>> results = Arrays.asList(success(SUCCESS), success(SUCCESS));
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> LazyResults.prefetchAll(results, command -> {
+            throw new AssertionError("Should not submit any task");
+        });
+        // Then
+        assertThatNoException().isThrownBy(callable);
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.assertj.core.api.ThrowableAssert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link LazyResults#prefetch(Result, Executor)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("LazyResults prefetch")
+class LazyResults_prefetch_Test {
+
+    private static final String SUCCESS = "SUCCESS";
+
+    private static final Executor UNEXPECTED = command -> fail("Should not submit any task");
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void should_throw_exception_when_null_result() {
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> LazyResults.prefetch(null, executor);
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_throw_exception_when_null_executor() {
+        // Given
+        final Result<String, String> lazy = LazyResults.ofSupplier(() -> success(SUCCESS));
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> LazyResults.prefetch(lazy, null);
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_evaluate_lazy_result_in_background() throws InterruptedException {
+        // Given
+        final AtomicReference<Thread> thread = new AtomicReference<>();
+        final CountDownLatch invoked = new CountDownLatch(1);
+        final Supplier<Result<String, String>> supplier = () -> {
+            thread.set(Thread.currentThread());
+            invoked.countDown();
+            return success(SUCCESS);
+        };
+        final Result<String, String> lazy = LazyResults.ofSupplier(supplier);
+        // When
+        final Result<String, String> result = LazyResults.prefetch(lazy, executor);
+        // Then
+        assertThat(result).isSameAs(lazy);
+        assertThat(invoked.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(thread.get()).isNotSameAs(Thread.currentThread());
+    }
+
+    @Test
+    void should_join_in_flight_evaluation() throws InterruptedException {
+        // Given
+        final AtomicInteger counter = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch finish = new CountDownLatch(1);
+        final Supplier<Result<String, String>> supplier = () -> {
+            counter.incrementAndGet();
+            started.countDown();
+            try {
+                finish.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return success(SUCCESS);
+        };
+        final Result<String, String> lazy = LazyResults.prefetch(LazyResults.ofSupplier(supplier), executor);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        // When
+        finish.countDown();
+        final boolean result = lazy.hasSuccess();
+        // Then
+        assertThat(result).isTrue();
+        assertThat(counter).hasValue(1);
+    }
+
+    @Test
+    void should_prefetch_deferred_operations() throws InterruptedException {
+        // Given
+        final CountDownLatch mapped = new CountDownLatch(1);
+        final Result<String, String> lazy = LazyResults.<String, String>ofSupplier(() -> success(SUCCESS))
+                .mapSuccess(s -> {
+                    mapped.countDown();
+                    return s.toLowerCase();
+                });
+        // When
+        LazyResults.prefetch(lazy, executor);
+        // Then
+        assertThat(mapped.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(lazy.getSuccess()).contains("success");
+    }
+
+    @Test
+    void should_do_nothing_when_already_evaluated() {
+        // Given
+        final Result<String, String> lazy = LazyResults.ofSupplier(() -> success(SUCCESS));
+        lazy.hasSuccess();
+        // When
+        final Result<String, String> result = LazyResults.prefetch(lazy, UNEXPECTED);
+        // Then
+        assertThat(result).isSameAs(lazy);
+    }
+
+    @Test
+    void should_do_nothing_when_not_lazy() {
+        // Given
+        final Result<String, String> eager = success(SUCCESS);
+        // When
+        final Result<String, String> result = LazyResults.prefetch(eager, UNEXPECTED);
+        // Then
+        assertThat(result).isSameAs(eager);
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.lazy;
+
+import static com.leakyabstractions.result.test.Results.failure;
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.assertj.core.api.ThrowableAssert;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link LazyResults#retrying(Supplier, Function)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("LazyResults retrying")
+class LazyResults_retrying_Test {
+
+    private final AtomicInteger counter = new AtomicInteger();
+    private final Supplier<Result<Integer, String>> supplier = () -> {
+        if (counter.incrementAndGet() <= 2) {
+            throw new IllegalStateException("Attempt " + counter.get());
+        }
+        return success(counter.get());
+    };
+    private final Function<RuntimeException, Result<Integer, String>> mapper = e -> failure(e.getMessage());
+
+    @Test
+    void should_throw_exception_when_null_supplier() {
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> LazyResults.retrying(null, mapper);
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_throw_exception_when_null_mapper() {
+        // When
+        ThrowableAssert.ThrowingCallable callable = () -> LazyResults.retrying(supplier, null);
+        // Then
+        assertThatThrownBy(callable).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_be_lazy() {
+        // When
+        final Result<Integer, String> result = LazyResults.retrying(supplier, mapper);
+        // Then
+        assertThat(counter).hasValue(0);
+        assertThat(result).hasToString("ExpiringResult[Not supplied]");
+    }
+
+    @Test
+    void should_capture_exceptions_into_failures() {
+        // Given
+        final Result<Integer, String> result = LazyResults.retrying(supplier, mapper);
+        // When
+        final Result<Integer, String> failure = result.mapFailure(f -> f);
+        // Then
+        assertThat(failure.getFailure()).contains("Attempt 1");
+    }
+
+    @Test
+    void should_evaluate_again_after_capturing_an_exception() {
+        // Given
+        final Result<Integer, String> result = LazyResults.retrying(supplier, mapper);
+        // When
+        final boolean first = result.hasFailure();
+        final boolean second = result.hasFailure();
+        final boolean third = result.hasFailure();
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(counter).hasValue(3);
+    }
+
+    @Test
+    void should_evaluate_derived_results_again_after_capturing_an_exception() {
+        // Given
+        final Result<Integer, String> result = LazyResults.retrying(supplier, mapper).mapSuccess(x -> x * 10);
+        // When
+        final Optional<String> first = result.getFailure();
+        final Optional<String> second = result.getFailure();
+        final Integer third = result.orElse(null);
+        // Then
+        assertThat(first).contains("Attempt 1");
+        assertThat(second).contains("Attempt 2");
+        assertThat(third).isEqualTo(30);
+        assertThat(result.orElse(null)).isEqualTo(30);
+        assertThat(counter).hasValue(3);
+    }
+
+    @Test
+    void should_memoize_supplied_result() {
+        // Given
+        counter.set(2);
+        final Result<Integer, String> result = LazyResults.retrying(supplier, mapper);
+        // When
+        final Integer first = result.orElse(null);
+        final Integer second = result.orElse(null);
+        // Then
+        assertThat(first).isEqualTo(3);
+        assertThat(second).isEqualTo(3);
+        assertThat(counter).hasValue(3);
+    }
+
+    @Test
+    void should_relay_errors() {
+        // Given
+        final AssertionError error = new AssertionError("Testing");
+        final Result<Integer, String> result = LazyResults.retrying(() -> {
+            throw error;
+        }, mapper);
+        // When
+        ThrowableAssert.ThrowingCallable callable = result::hasSuccess;
+        // Then
+        assertThatThrownBy(callable).isSameAs(error);
+    }
+}